@@ -0,0 +1,108 @@
+package net.datafaker.benchmarks;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs {@link ColdStartBenchmark} with {@link RetainedHeapProfiler} and reports per locale the time to
+ * {@code new Faker()}, to the first {@code name().fullName()} and to having called every provider,
+ * each in a fresh JVM, together with the heap retained after all providers were called.
+ * <pre>
+ * ColdStart [--locales en,de] [--forks 10] [--output target/cold-start.csv] [--profile-loading]
+ * </pre>
+ * {@code --profile-loading} starts the forks with {@code -Ddatafaker.profile.loading=true},
+ * so every parsed YAML file and its parse time is logged.
+ */
+public final class ColdStart {
+    private static final String[] BENCHMARKS = {"construct", "firstFullName", "allProviders"};
+
+    private ColdStart() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String locales = "en,de,fr,ja";
+        int forks = 10;
+        Path output = Paths.get("target", "cold-start.csv");
+        boolean profileLoading = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--locales":
+                    locales = args[++i];
+                    break;
+                case "--forks":
+                    forks = Integer.parseInt(args[++i]);
+                    break;
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--profile-loading":
+                    profileLoading = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(ColdStartBenchmark.class.getName() + ".")
+            .param("languageTag", locales.split(","))
+            .addProfiler(RetainedHeapProfiler.class)
+            .forks(forks);
+        if (profileLoading) {
+            options.jvmArgsAppend("-Ddatafaker.profile.loading=true");
+        }
+
+        // per locale: mean and error of each benchmark in milliseconds, then the retained heap in MB
+        final Map<String, double[]> rows = new LinkedHashMap<>();
+        for (RunResult result : new Runner(options.build()).run()) {
+            final String label = result.getParams().getBenchmark();
+            final String benchmark = label.substring(label.lastIndexOf('.') + 1);
+            final double[] row = rows.computeIfAbsent(result.getParams().getParam("languageTag"),
+                locale -> new double[2 * BENCHMARKS.length + 1]);
+            for (int i = 0; i < BENCHMARKS.length; i++) {
+                if (BENCHMARKS[i].equals(benchmark)) {
+                    row[2 * i] = result.getPrimaryResult().getScore();
+                    row[2 * i + 1] = result.getPrimaryResult().getScoreError();
+                }
+            }
+            if ("allProviders".equals(benchmark)) {
+                final Result retained = result.getSecondaryResults().get("heap.retained");
+                row[row.length - 1] = retained == null ? Double.NaN : retained.getScore();
+            }
+        }
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-8s %20s %20s %20s %12s%n",
+            "locale", "new Faker() ms", "first fullName ms", "all providers ms", "retained MB");
+        for (Map.Entry<String, double[]> entry : rows.entrySet()) {
+            final double[] row = entry.getValue();
+            System.out.printf(Locale.ROOT, "%-8s %11.1f +- %6.1f %11.1f +- %6.1f %11.1f +- %6.1f %12.1f%n",
+                entry.getKey(), row[0], row[1], row[2], row[3], row[4], row[5], row[6]);
+        }
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("locale,constructMillis,constructError,firstFullNameMillis,firstFullNameError,"
+                + "allProvidersMillis,allProvidersError,retainedMegabytes\n");
+            for (Map.Entry<String, double[]> entry : rows.entrySet()) {
+                final double[] row = entry.getValue();
+                writer.write(String.format(Locale.ROOT, "%s,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f\n",
+                    entry.getKey(), row[0], row[1], row[2], row[3], row[4], row[5], row[6]));
+            }
+        }
+        System.out.println("Report written to " + output);
+    }
+}
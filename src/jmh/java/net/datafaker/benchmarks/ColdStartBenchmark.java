@@ -0,0 +1,77 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Startup cost in a fresh JVM: a single call per fork, so class loading, the static initialization of
+ * {@code FakeValuesGrouping} and the parsing of the YAML files are part of the measured time.
+ * Run it with {@link RetainedHeapProfiler} to see the heap retained by the {@link Faker} afterwards.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Thread)
+public class ColdStartBenchmark {
+    /**
+     * Keeps the last {@link Faker} reachable until the end of the fork.
+     */
+    static volatile Faker retained;
+
+    @Param({"en", "de", "fr", "ja"})
+    public String languageTag;
+
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        locale = Locale.forLanguageTag(languageTag);
+    }
+
+    @Benchmark
+    public Faker construct() {
+        retained = new Faker(locale);
+        return retained;
+    }
+
+    @Benchmark
+    public String firstFullName() {
+        retained = new Faker(locale);
+        return retained.name().fullName();
+    }
+
+    /**
+     * Calls every method found by {@link ProviderMethods} once. The reflective discovery is measured too,
+     * it takes a few milliseconds. Methods which fail for the locale are skipped.
+     */
+    @Benchmark
+    public void allProviders(Blackhole blackhole) throws IllegalAccessException {
+        retained = new Faker(locale);
+        for (String name : ProviderMethods.discover(Pattern.compile(""))) {
+            final Object provider = ProviderMethods.provider(retained, name);
+            try {
+                blackhole.consume(ProviderMethods.method(provider, name).invoke(provider));
+            } catch (InvocationTargetException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+}
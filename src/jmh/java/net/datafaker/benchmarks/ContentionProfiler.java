@@ -0,0 +1,126 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.service.BoundedCache;
+import net.datafaker.service.FakeValuesService;
+import net.datafaker.service.RandomService;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Samples the stacks of the benchmark threads and reports which share of the samples is spent
+ * <ul>
+ *     <li>{@code contention.random}: in {@link java.util.Random}, whose seed is a single CAS updated value,</li>
+ *     <li>{@code contention.caches}: in the {@link BoundedCache}s, including blocked on their segments, and in the
+ *     hash maps used as caches by {@link FakeValuesService},</li>
+ *     <li>{@code contention.blocked}: blocked on a monitor.</li>
+ * </ul>
+ * Growing shares with more threads show where scaling collapses.
+ */
+public class ContentionProfiler implements InternalProfiler {
+    private static final long INTERVAL_MILLIS = 5;
+    private static final String RANDOM = java.util.Random.class.getName();
+    private static final String RANDOM_SERVICE = RandomService.class.getName();
+    private static final String FAKE_VALUES_SERVICE = FakeValuesService.class.getName();
+    private static final String BOUNDED_CACHE = BoundedCache.class.getName();
+
+    private volatile boolean sampling;
+    private Thread sampler;
+    private long samples;
+    private long random;
+    private long caches;
+    private long blocked;
+
+    @Override
+    public String getDescription() {
+        return "Share of samples in Random, in the FakeValuesService caches and blocked on monitors";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        samples = 0;
+        random = 0;
+        caches = 0;
+        blocked = 0;
+        sampling = true;
+        sampler = new Thread(this::sample, "contention-profiler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        sampling = false;
+        try {
+            sampler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<Result> results = new ArrayList<>();
+        results.add(share("contention.random", random));
+        results.add(share("contention.caches", caches));
+        results.add(share("contention.blocked", blocked));
+        return results;
+    }
+
+    private Result share(String label, long count) {
+        return new ScalarResult(label, samples == 0 ? 0 : 100.0 * count / samples, "%", AggregationPolicy.AVG);
+    }
+
+    private void sample() {
+        while (sampling) {
+            for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+                if (entry.getKey().getName().contains("jmh-worker")) {
+                    classify(entry.getKey().getState(), entry.getValue());
+                }
+            }
+            try {
+                Thread.sleep(INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void classify(Thread.State state, StackTraceElement[] stack) {
+        samples++;
+        if (state == Thread.State.BLOCKED) {
+            blocked++;
+        }
+        for (int i = 0; i < stack.length; i++) {
+            final String className = stack[i].getClassName();
+            final String caller = i + 1 < stack.length ? stack[i + 1].getClassName() : "";
+            if (className.equals(RANDOM) && caller.equals(RANDOM_SERVICE)) {
+                random++;
+                return;
+            }
+            if (isJdk(className)) {
+                if (className.endsWith("HashMap") && caller.equals(FAKE_VALUES_SERVICE)) {
+                    caches++;
+                    return;
+                }
+                continue;
+            }
+            // the innermost frame outside of the JDK, also the one of threads blocked on a segment of the cache;
+            // frames of the loaders called by BoundedCache are further down and do not count
+            if (className.startsWith(BOUNDED_CACHE)) {
+                caches++;
+            }
+            return;
+        }
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+}
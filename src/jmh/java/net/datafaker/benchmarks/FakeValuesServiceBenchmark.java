@@ -0,0 +1,80 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.service.FakeValuesService;
+import net.datafaker.service.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and resolution of {@link FakeValuesService}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FakeValuesServiceBenchmark {
+    private Faker faker;
+    private FakeValuesService service;
+
+    @Setup
+    public void setUp() {
+        final RandomService random = new RandomService(new Random(42));
+        service = new FakeValuesService(Locale.ENGLISH, random);
+        faker = new Faker(service, random);
+    }
+
+    @Benchmark
+    public Object fetch() {
+        return service.fetch("name.first_name");
+    }
+
+    @Benchmark
+    public String safeFetch() {
+        return service.safeFetch("name.first_name", null);
+    }
+
+    @Benchmark
+    public Object fetchObject() {
+        return service.fetchObject("name.first_name");
+    }
+
+    @Benchmark
+    public String resolveName() {
+        return service.resolve("name.name", faker.name(), faker);
+    }
+
+    @Benchmark
+    public String resolveFullAddress() {
+        return service.resolve("address.full_address", faker.address(), faker);
+    }
+
+    @Benchmark
+    public String expressionWithMethodCalls() {
+        return faker.expression("#{Name.first_name} #{Name.last_name} lives in #{Address.city}");
+    }
+
+    @Benchmark
+    public String expressionWithArguments() {
+        return faker.expression("#{number.number_between '1','100'}");
+    }
+
+    @Benchmark
+    public String expressionWithOptions() {
+        return faker.expression("#{options.option 'red','green','blue'}");
+    }
+}
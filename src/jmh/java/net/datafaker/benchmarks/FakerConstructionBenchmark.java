@@ -0,0 +1,49 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of a {@link Faker} per locale, with and without the first lookup which loads the dictionaries.
+ * The dictionaries are cached per JVM, see the cold start benchmark for the first load.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FakerConstructionBenchmark {
+    @Param({"en", "de", "fr", "ja", "zh-CN", "pt-BR"})
+    public String languageTag;
+
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        locale = Locale.forLanguageTag(languageTag);
+    }
+
+    @Benchmark
+    public Faker construct() {
+        return new Faker(locale);
+    }
+
+    @Benchmark
+    public String constructAndFetch() {
+        return new Faker(locale).name().firstName();
+    }
+}
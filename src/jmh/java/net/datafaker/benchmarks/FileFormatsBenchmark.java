@@ -0,0 +1,92 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.fileformats.Csv;
+import net.datafaker.fileformats.Json;
+import net.datafaker.fileformats.Xml;
+import net.datafaker.fileformats.Yaml;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The {@code fileformats} generators with the same person record at several sizes.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FileFormatsBenchmark {
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private Faker faker;
+    private Map<Supplier<String>, Supplier<Object>> document;
+
+    @Setup
+    public void setUp() {
+        faker = new Faker(new Random(42));
+        final Map<Supplier<String>, Supplier<Object>> person = new LinkedHashMap<>();
+        person.put(() -> "name", () -> faker.name().fullName());
+        person.put(() -> "email", () -> faker.internet().emailAddress());
+        person.put(() -> "city", () -> faker.address().city());
+        person.put(() -> "age", () -> faker.number().numberBetween(18, 90));
+        document = new LinkedHashMap<>();
+        document.put(() -> "people", () -> Collections.nCopies(rows, person));
+    }
+
+    @Benchmark
+    public String csv() {
+        return new Csv.CsvBuilder()
+            .columns(Csv.Column.of("name", () -> faker.name().fullName()),
+                Csv.Column.of("email", () -> faker.internet().emailAddress()),
+                Csv.Column.of("city", () -> faker.address().city()),
+                Csv.Column.of("age", () -> String.valueOf(faker.number().numberBetween(18, 90))))
+            .limit(rows)
+            .build()
+            .get();
+    }
+
+    @Benchmark
+    public String json() {
+        return new Json(document).generate();
+    }
+
+    @Benchmark
+    public String yaml() {
+        return new Yaml(document).generate();
+    }
+
+    @Benchmark
+    public String xml() {
+        final List<Xml.XmlNode> people = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            final List<Xml.XmlNode> fields = new ArrayList<>(4);
+            fields.add(new Xml.XmlNode("name", faker.name().fullName()));
+            fields.add(new Xml.XmlNode("email", faker.internet().emailAddress()));
+            fields.add(new Xml.XmlNode("city", faker.address().city()));
+            fields.add(new Xml.XmlNode("age", String.valueOf(faker.number().numberBetween(18, 90))));
+            people.add(new Xml.XmlNode("person", fields));
+        }
+        return new Xml(new Xml.XmlNode("people", people)).generate();
+    }
+}
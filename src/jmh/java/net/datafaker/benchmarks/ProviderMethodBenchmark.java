@@ -0,0 +1,57 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One provider method, chosen by the {@code method} parameter, see {@link ProviderSweep} which sets
+ * the parameter to all discovered methods. The call goes through a bound method handle, so the
+ * overhead is the same small constant for every method.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProviderMethodBenchmark {
+    @Param({"name.firstName"})
+    public String method;
+
+    @Param({"en"})
+    public String languageTag;
+
+    private MethodHandle handle;
+
+    @Setup
+    public void setUp() throws IllegalAccessException {
+        final Faker faker = new Faker(Locale.forLanguageTag(languageTag), new Random(42));
+        final Object provider = ProviderMethods.provider(faker, method);
+        handle = MethodHandles.publicLookup()
+            .unreflect(ProviderMethods.method(provider, method))
+            .bindTo(provider)
+            .asType(MethodType.methodType(Object.class));
+    }
+
+    @Benchmark
+    public Object invoke() throws Throwable {
+        return (Object) handle.invokeExact();
+    }
+}
@@ -0,0 +1,79 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Discovers the provider methods which can be benchmarked without arguments, in the same way as
+ * {@code integration.FakerIT}: every public no-arg provider accessor of {@link Faker} and every
+ * public no-arg non-void method of the provider. A method is named {@code accessor.method}, e.g. {@code name.firstName}.
+ */
+final class ProviderMethods {
+    private static final String PROVIDER_PACKAGE = Faker.class.getPackage().getName();
+
+    private ProviderMethods() {
+    }
+
+    static List<String> discover(Pattern include) {
+        final List<String> names = new ArrayList<>();
+        for (Method accessor : sorted(Faker.class.getMethods())) {
+            if (!isProviderAccessor(accessor)) {
+                continue;
+            }
+            for (Method method : sorted(accessor.getReturnType().getMethods())) {
+                final String name = accessor.getName() + "." + method.getName();
+                if (isBenchmarkable(method) && include.matcher(name).find()) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    static Object provider(Faker faker, String name) {
+        final String accessor = name.substring(0, name.indexOf('.'));
+        try {
+            return Faker.class.getMethod(accessor).invoke(faker);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Unknown provider of " + name, e);
+        }
+    }
+
+    static Method method(Object provider, String name) {
+        try {
+            return provider.getClass().getMethod(name.substring(name.indexOf('.') + 1));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Unknown provider method " + name, e);
+        }
+    }
+
+    private static boolean isProviderAccessor(Method method) {
+        final Class<?> type = method.getReturnType();
+        return !Modifier.isStatic(method.getModifiers())
+            && method.getParameterCount() == 0
+            && type != Faker.class
+            && type.getPackage() != null
+            && PROVIDER_PACKAGE.equals(type.getPackage().getName());
+    }
+
+    private static boolean isBenchmarkable(Method method) {
+        return !Modifier.isStatic(method.getModifiers())
+            && method.getParameterCount() == 0
+            && method.getReturnType() != void.class
+            && method.getDeclaringClass() != Object.class;
+    }
+
+    private static Method[] sorted(Method[] methods) {
+        final Method[] copy = methods.clone();
+        Arrays.sort(copy, Comparator.comparing(Method::getName));
+        return copy;
+    }
+}
@@ -0,0 +1,247 @@
+package net.datafaker.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks every discovered provider method (see {@link ProviderMethods}) for every given locale,
+ * writes ops/s and bytes allocated per op as CSV or JSON and compares them with a baseline report.
+ * <pre>
+ * ProviderSweep [--locales en,de] [--include regex] [--output target/provider-sweep.csv]
+ *               [--baseline file.csv|file.json] [--threshold 0.2] [--forks 1] [--fail-on-regression]
+ * </pre>
+ * A method regresses if its throughput drops or its allocation grows by more than the threshold.
+ * {@code --forks 0} runs all methods in this JVM, which is much faster but less accurate.
+ */
+public final class ProviderSweep {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final int TOP = 20;
+    private static final String CSV_HEADER = "method,locale,opsPerSecond,bytesPerOp";
+    private static final Pattern JSON_ROW = Pattern.compile(
+        "\\{\"method\": \"([^\"]*)\", \"locale\": \"([^\"]*)\", \"opsPerSecond\": ([^,]+), \"bytesPerOp\": ([^}]+)}");
+
+    private ProviderSweep() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String locales = "en";
+        Pattern include = Pattern.compile("");
+        Path output = Paths.get("target", "provider-sweep.csv");
+        Path baseline = null;
+        double threshold = 0.2;
+        int forks = 1;
+        boolean failOnRegression = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--locales":
+                    locales = args[++i];
+                    break;
+                case "--include":
+                    include = Pattern.compile(args[++i]);
+                    break;
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--baseline":
+                    baseline = Paths.get(args[++i]);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++i]);
+                    break;
+                case "--forks":
+                    forks = Integer.parseInt(args[++i]);
+                    break;
+                case "--fail-on-regression":
+                    failOnRegression = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final List<String> methods = ProviderMethods.discover(include);
+        System.out.println("Benchmarking " + methods.size() + " provider methods for " + locales);
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(ProviderMethodBenchmark.class.getName() + ".")
+            .param("method", methods.toArray(new String[0]))
+            .param("languageTag", locales.split(","))
+            .addProfiler(GCProfiler.class)
+            .forks(forks);
+        final Collection<RunResult> results = new Runner(options.build()).run();
+
+        final Map<String, Row> rows = new LinkedHashMap<>();
+        for (RunResult result : results) {
+            final Row row = new Row(result.getParams().getParam("method"), result.getParams().getParam("languageTag"),
+                result.getPrimaryResult().getScore(), allocation(result));
+            rows.put(row.key(), row);
+        }
+        write(rows.values(), output);
+        System.out.println("Report written to " + output);
+
+        final List<Row> sorted = new ArrayList<>(rows.values());
+        sorted.sort(Comparator.comparingDouble(row -> row.opsPerSecond));
+        print("Slowest methods", sorted);
+        sorted.sort(Comparator.comparingDouble((Row row) -> row.bytesPerOp).reversed());
+        print("Most allocating methods", sorted);
+
+        if (baseline != null) {
+            final int regressions = compare(read(baseline), rows, threshold);
+            if (regressions > 0 && failOnRegression) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static double allocation(RunResult result) {
+        // older JMH versions prefix the label with a middle dot
+        for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+            if (entry.getKey().endsWith(ALLOCATION)) {
+                return entry.getValue().getScore();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static int compare(Map<String, Row> baseline, Map<String, Row> current, double threshold) {
+        int regressions = 0;
+        System.out.println();
+        System.out.println("Changes against the baseline by more than " + Math.round(threshold * 100) + "%:");
+        for (Row row : current.values()) {
+            final Row before = baseline.get(row.key());
+            if (before == null) {
+                System.out.println("  new         " + row);
+                continue;
+            }
+            final double speed = row.opsPerSecond / before.opsPerSecond - 1;
+            final double allocation = before.bytesPerOp > 0 ? row.bytesPerOp / before.bytesPerOp - 1 : 0;
+            final boolean regressed = speed < -threshold || allocation > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            if (regressed || speed > threshold || allocation < -threshold) {
+                System.out.printf(Locale.ROOT, "  %-11s %s (ops/s %+.0f%%, bytes/op %+.0f%%)%n",
+                    regressed ? "REGRESSION" : "improvement", row, speed * 100, allocation * 100);
+            }
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.println("  removed     " + baseline.get(key));
+            }
+        }
+        System.out.println(regressions + " regressions");
+        return regressions;
+    }
+
+    private static void print(String title, List<Row> rows) {
+        System.out.println();
+        System.out.println(title + ":");
+        for (Row row : rows.subList(0, Math.min(TOP, rows.size()))) {
+            System.out.println("  " + row);
+        }
+    }
+
+    private static void write(Collection<Row> rows, Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        final boolean json = output.toString().endsWith(".json");
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write(json ? "[" : CSV_HEADER);
+            String separator = "\n";
+            for (Row row : rows) {
+                writer.write(separator);
+                if (json) {
+                    writer.write(String.format(Locale.ROOT,
+                        "  {\"method\": \"%s\", \"locale\": \"%s\", \"opsPerSecond\": %.3f, \"bytesPerOp\": %s}",
+                        row.method, row.locale, row.opsPerSecond,
+                        // without the GC profiler there is no allocation, and NaN is not valid JSON
+                        Double.isNaN(row.bytesPerOp) ? "null" : String.format(Locale.ROOT, "%.3f", row.bytesPerOp)));
+                    separator = ",\n";
+                } else {
+                    writer.write(String.format(Locale.ROOT, "%s,%s,%.3f,%.3f",
+                        row.method, row.locale, row.opsPerSecond, row.bytesPerOp));
+                }
+            }
+            writer.write(json ? "\n]\n" : "\n");
+        }
+    }
+
+    /**
+     * Reads a CSV or JSON report written by this class.
+     *
+     * @throws IllegalArgumentException if the file is not such a report
+     */
+    private static Map<String, Row> read(Path baseline) throws IOException {
+        final Map<String, Row> rows = new LinkedHashMap<>();
+        final List<String> lines = Files.readAllLines(baseline, StandardCharsets.UTF_8);
+        final boolean json = !lines.isEmpty() && lines.get(0).equals("[");
+        if (!json && (lines.isEmpty() || !lines.get(0).equals(CSV_HEADER))) {
+            throw new IllegalArgumentException(baseline + " is not a CSV or JSON report of ProviderSweep");
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isEmpty() || line.equals("]")) {
+                continue;
+            }
+            final Row row;
+            if (json) {
+                final Matcher matcher = JSON_ROW.matcher(line);
+                if (!matcher.find()) {
+                    throw new IllegalArgumentException("Unexpected line in " + baseline + ": " + line);
+                }
+                row = new Row(matcher.group(1), matcher.group(2), Double.parseDouble(matcher.group(3)),
+                    matcher.group(4).equals("null") ? Double.NaN : Double.parseDouble(matcher.group(4)));
+            } else {
+                final String[] columns = line.split(",");
+                if (columns.length != 4) {
+                    throw new IllegalArgumentException("Unexpected line in " + baseline + ": " + line);
+                }
+                row = new Row(columns[0], columns[1], Double.parseDouble(columns[2]), Double.parseDouble(columns[3]));
+            }
+            rows.put(row.key(), row);
+        }
+        return rows;
+    }
+
+    private static final class Row {
+        private final String method;
+        private final String locale;
+        private final double opsPerSecond;
+        private final double bytesPerOp;
+
+        Row(String method, String locale, double opsPerSecond, double bytesPerOp) {
+            this.method = method;
+            this.locale = locale;
+            this.opsPerSecond = opsPerSecond;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        String key() {
+            return method + "|" + locale;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-45s %-6s %,14.0f ops/s %,12.0f B/op", method, locale, opsPerSecond, bytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package net.datafaker.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Reports the used heap after a full GC at the end of an iteration minus the used heap after a full GC
+ * at its start as {@code heap.retained}, i.e. what the benchmark keeps reachable, like static caches
+ * and parsed YAML files.
+ */
+public class RetainedHeapProfiler implements InternalProfiler {
+    private static final int GC_ROUNDS = 3;
+
+    private long before;
+
+    @Override
+    public String getDescription() {
+        return "Heap retained by an iteration after full GCs";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        before = usedAfterGc();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        final double retained = (usedAfterGc() - before) / (1024.0 * 1024.0);
+        return Collections.singletonList(new ScalarResult("heap.retained", retained, "MB", AggregationPolicy.AVG));
+    }
+
+    private static long usedAfterGc() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,124 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.fileformats.Csv;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aggregate throughput of typical workloads with three ways of sharing {@link Faker}s between threads.
+ * Run it with several thread counts, see {@link ScalingSweep}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScalingBenchmark {
+
+    public enum Strategy {
+        /**
+         * One faker for all threads.
+         */
+        SHARED,
+        /**
+         * A faker owned by every benchmark thread.
+         */
+        PER_THREAD,
+        /**
+         * A faker per thread taken from a {@link ThreadLocal} on every call.
+         */
+        THREAD_LOCAL
+    }
+
+    @State(Scope.Benchmark)
+    public static class Fakers {
+        @Param({"SHARED", "PER_THREAD", "THREAD_LOCAL"})
+        public Strategy strategy;
+
+        private final AtomicInteger seeds = new AtomicInteger();
+        private Faker shared;
+        private ThreadLocal<Faker> threadLocal;
+
+        @Setup
+        public void setUp() {
+            shared = newFaker();
+            threadLocal = ThreadLocal.withInitial(this::newFaker);
+        }
+
+        Faker newFaker() {
+            return new Faker(new Random(seeds.incrementAndGet()));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadFaker {
+        private Faker own;
+
+        @Setup
+        public void setUp(Fakers fakers) {
+            own = fakers.newFaker();
+        }
+    }
+
+    private static Faker faker(Fakers fakers, ThreadFaker threadFaker) {
+        switch (fakers.strategy) {
+            case SHARED:
+                return fakers.shared;
+            case PER_THREAD:
+                return threadFaker.own;
+            default:
+                return fakers.threadLocal.get();
+        }
+    }
+
+    @Benchmark
+    public void person(Fakers fakers, ThreadFaker threadFaker, Blackhole blackhole) {
+        final Faker faker = faker(fakers, threadFaker);
+        blackhole.consume(faker.name().firstName());
+        blackhole.consume(faker.name().lastName());
+        blackhole.consume(faker.phoneNumber().cellPhone());
+        blackhole.consume(faker.date().birthday());
+    }
+
+    @Benchmark
+    public String address(Fakers fakers, ThreadFaker threadFaker) {
+        return faker(fakers, threadFaker).address().fullAddress();
+    }
+
+    @Benchmark
+    public String email(Fakers fakers, ThreadFaker threadFaker) {
+        return faker(fakers, threadFaker).internet().emailAddress();
+    }
+
+    @Benchmark
+    public String uuid(Fakers fakers, ThreadFaker threadFaker) {
+        return faker(fakers, threadFaker).internet().uuid();
+    }
+
+    @Benchmark
+    public String csv(Fakers fakers, ThreadFaker threadFaker) {
+        final Faker faker = faker(fakers, threadFaker);
+        return new Csv.CsvBuilder()
+            .columns(Csv.Column.of("name", () -> faker.name().fullName()),
+                Csv.Column.of("email", () -> faker.internet().emailAddress()),
+                Csv.Column.of("city", () -> faker.address().city()))
+            .limit(10)
+            .build()
+            .get();
+    }
+}
@@ -0,0 +1,114 @@
+package net.datafaker.benchmarks;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs {@link ScalingBenchmark} with 1, 2, 4, ... threads up to the number of processors and
+ * reports the aggregate throughput, the speedup against one thread and the scaling efficiency
+ * per workload and strategy, together with the shares measured by {@link ContentionProfiler}.
+ * <pre>
+ * ScalingSweep [--threads 1,2,4,8] [--include person|email] [--output target/scaling.csv] [--no-profiler]
+ * </pre>
+ */
+public final class ScalingSweep {
+    private static final String[] CONTENTION = {"contention.random", "contention.caches", "contention.blocked"};
+
+    private ScalingSweep() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> threads = defaultThreads(Runtime.getRuntime().availableProcessors());
+        String include = ".*";
+        Path output = Paths.get("target", "scaling.csv");
+        boolean profile = true;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads":
+                    threads = new ArrayList<>();
+                    for (String count : args[++i].split(",")) {
+                        threads.add(Integer.parseInt(count));
+                    }
+                    break;
+                case "--include":
+                    include = args[++i];
+                    break;
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--no-profiler":
+                    profile = false;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        // throughput per thread of the first run per workload and strategy, the base of the speedup
+        final Map<String, Double> single = new HashMap<>();
+        final List<String> lines = new ArrayList<>();
+        lines.add("workload,strategy,threads,opsPerMillisecond,speedup,efficiency,randomPercent,cachesPercent,blockedPercent");
+        System.out.printf(Locale.ROOT, "%-10s %-13s %7s %14s %8s %10s %8s %8s %8s%n",
+            "workload", "strategy", "threads", "ops/ms", "speedup", "efficiency", "random%", "caches%", "blocked%");
+        for (int count : threads) {
+            final ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(ScalingBenchmark.class.getName() + "\\.(" + include + ")$")
+                .threads(count);
+            if (profile) {
+                options.addProfiler(ContentionProfiler.class);
+            }
+            for (RunResult result : new Runner(options.build()).run()) {
+                final String label = result.getParams().getBenchmark();
+                final String workload = label.substring(label.lastIndexOf('.') + 1);
+                final String strategy = result.getParams().getParam("strategy");
+                final double score = result.getPrimaryResult().getScore();
+                final String key = workload + "|" + strategy;
+                single.putIfAbsent(key, score / count);
+                final double speedup = score / single.get(key);
+                final double[] contention = new double[CONTENTION.length];
+                for (int i = 0; i < CONTENTION.length; i++) {
+                    final Result secondary = result.getSecondaryResults().get(CONTENTION[i]);
+                    contention[i] = secondary == null ? Double.NaN : secondary.getScore();
+                }
+                System.out.printf(Locale.ROOT, "%-10s %-13s %7d %,14.1f %8.2f %9.0f%% %8.1f %8.1f %8.1f%n",
+                    workload, strategy, count, score, speedup, 100 * speedup / count,
+                    contention[0], contention[1], contention[2]);
+                lines.add(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.1f,%.1f,%.1f",
+                    workload, strategy, count, score, speedup, speedup / count, contention[0], contention[1], contention[2]));
+            }
+        }
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        System.out.println("Report written to " + output);
+    }
+
+    private static List<Integer> defaultThreads(int processors) {
+        final List<Integer> threads = new ArrayList<>();
+        for (int count = 1; count < processors; count *= 2) {
+            threads.add(count);
+        }
+        threads.add(processors);
+        return threads;
+    }
+}
@@ -0,0 +1,69 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code regexify}, {@code numerify} and {@code bothify} with patterns as they occur in the dictionaries.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+    @State(Scope.Thread)
+    public static class Regexes {
+        @Param({"[a-z]{8}", "\\d{3}-\\d{2}-\\d{4}", "([A-Z]){4}([A-Z]){2}([0-9A-Z]){2}([0-9A-Z]{3})?"})
+        public String regex;
+
+        private Faker faker;
+
+        @Setup
+        public void setUp() {
+            faker = new Faker(new Random(42));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Templates {
+        @Param({"###-###-####", "??###??##"})
+        public String template;
+
+        private Faker faker;
+
+        @Setup
+        public void setUp() {
+            faker = new Faker(new Random(42));
+        }
+    }
+
+    @Benchmark
+    public String regexify(Regexes state) {
+        return state.faker.regexify(state.regex);
+    }
+
+    @Benchmark
+    public String numerify(Templates state) {
+        return state.faker.numerify(state.template);
+    }
+
+    @Benchmark
+    public String bothify(Templates state) {
+        return state.faker.bothify(state.template);
+    }
+}
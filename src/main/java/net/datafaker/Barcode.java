@@ -1,6 +1,9 @@
 package net.datafaker;
 
 public class Barcode {
+    // the smallest payload without leading zeros by GTIN length, i.e. 10^(length - 2)
+    private static final long[] MIN_PAYLOADS = {0, 0, 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000,
+        100_000_000, 1_000_000_000, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L};
     private final Faker faker;
 
     public Barcode(Faker faker) {
@@ -31,56 +34,12 @@ public long gtin8() {
         return ean8();
     }
 
-    private static int roundToHighestMultiplyOfTen(int number) {
-        if (number % 10 == 0)
-            return number;
-        else {
-            int ones = number % 10;
-            int add = 10 - ones;
-            return number + add;
-        }
-
-    }
-
+    /**
+     * @return a valid GTIN of the given length without leading zeros
+     */
     private long ean(int length) {
-        long first = 0;
-        switch (length) {
-            case 13:
-                first = this.faker.number().randomNumber(12, true);
-                break;
-            case 8:
-                first = this.faker.number().randomNumber(7, true);
-                break;
-            case 14:
-                first = this.faker.number().randomNumber(13, true);
-                break;
-            case 12:
-                first = this.faker.number().randomNumber(11, true);
-                break;
-        }
-        char[] array = String.valueOf(first).toCharArray();
-        int odd = 0;
-        int even = 0;
-        for (int i = 0; i < array.length; i++) {
-            int digit = Integer.parseInt(String.valueOf(array[i]));
-            if ((i + 1) % 2 == 0)
-                even += digit;
-            else
-                odd += digit;
-        }
-        int var = 0;
-
-        if (length == 13) {
-            var = (even * 3) + odd;
-        }
-        if (length == 8 || length == 14 || length == 12) {
-            var = (odd * 3) + even;
-        }
-
-        int rounded = roundToHighestMultiplyOfTen((var));
-        int checkDigit = rounded - var;
-
-        return Long.parseLong(first + String.valueOf(checkDigit));
+        final long smallest = MIN_PAYLOADS[length];
+        return CheckDigits.withGtin(smallest + CheckDigits.nextLong(faker.random(), 9 * smallest));
     }
 
     public String type() {
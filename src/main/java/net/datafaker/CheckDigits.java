@@ -0,0 +1,200 @@
+package net.datafaker;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Check digit arithmetic for GTIN (EAN-8, UPC-A, EAN-13, GTIN-14, ISBN-13), ISBN-10 and Luhn (IMEI, card numbers).
+ * <p>
+ * Identifiers are handled as {@code long}s: the payload is the number without its check digit,
+ * the full value is {@code payload * 10 + checkDigit}. Leading zeros are implied by the length,
+ * use {@link #format(long, int, char[], int)} to write a value with them.
+ * Up to 18 digits are supported.
+ */
+public final class CheckDigits {
+    /**
+     * The maximal number of digits of a value, including the check digit.
+     */
+    public static final int MAX_LENGTH = 18;
+    /**
+     * Returned by {@link #isbn10(long)} for the 'X' check digit.
+     */
+    public static final int ISBN10_X = 10;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_LENGTH + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private CheckDigits() {
+    }
+
+    /**
+     * GS1 mod 10 check digit: digits are weighted 3, 1, 3, ... starting from the rightmost one of the payload.
+     * The same for all GTIN lengths, ISBN-13 and SSCC.
+     */
+    public static int gtin(long payload) {
+        checkPayload(payload);
+        int sum = 0;
+        for (long rest = payload; rest != 0; rest /= 100) {
+            sum += 3 * (int) (rest % 10) + (int) (rest / 10 % 10);
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /**
+     * Luhn check digit: every second digit is doubled starting from the rightmost one of the payload.
+     */
+    public static int luhn(long payload) {
+        checkPayload(payload);
+        int sum = 0;
+        for (long rest = payload; rest != 0; rest /= 100) {
+            final int doubled = 2 * (int) (rest % 10);
+            sum += doubled > 9 ? doubled - 9 : doubled;
+            sum += (int) (rest / 10 % 10);
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /**
+     * ISBN-10 mod 11 check digit of a 9 digit payload.
+     *
+     * @return a digit or {@link #ISBN10_X}
+     */
+    public static int isbn10(long payload) {
+        checkPayload(payload);
+        int sum = 0;
+        int weight = 9;
+        for (long rest = payload; rest != 0; rest /= 10) {
+            sum += weight-- * (int) (rest % 10);
+        }
+        return sum % 11;
+    }
+
+    public static long withGtin(long payload) {
+        return payload * 10 + gtin(payload);
+    }
+
+    public static long withLuhn(long payload) {
+        return payload * 10 + luhn(payload);
+    }
+
+    /**
+     * @param length number of digits including the check digit, e.g. 13 for an EAN-13
+     * @return a random valid GTIN, it may start with zeros
+     */
+    public static long gtin(RandomService random, int length) {
+        checkLength(length);
+        return withGtin(nextLong(random, POWERS_OF_TEN[length - 1]));
+    }
+
+    /**
+     * Fills {@code dest} with random valid GTINs of the given length.
+     */
+    public static void gtin(RandomService random, int length, long[] dest) {
+        checkLength(length);
+        final long bound = POWERS_OF_TEN[length - 1];
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = withGtin(nextLong(random, bound));
+        }
+    }
+
+    /**
+     * @param prefix       leading digits of the value, e.g. a reporting body identifier of an IMEI
+     * @param prefixLength number of digits of the prefix
+     * @param length       number of digits including the prefix and the check digit
+     * @return a random valid Luhn number
+     */
+    public static long luhn(RandomService random, long prefix, int prefixLength, int length) {
+        checkLength(length);
+        if (prefixLength < 0 || prefixLength >= length || prefix < 0 || prefix >= POWERS_OF_TEN[prefixLength]) {
+            throw new IllegalArgumentException("Prefix " + prefix + " does not fit into " + prefixLength + " of " + length + " digits");
+        }
+        final int randomDigits = length - 1 - prefixLength;
+        return withLuhn(prefix * POWERS_OF_TEN[randomDigits] + nextLong(random, POWERS_OF_TEN[randomDigits]));
+    }
+
+    /**
+     * Fills {@code dest} with random valid Luhn numbers, see {@link #luhn(RandomService, long, int, int)}.
+     */
+    public static void luhn(RandomService random, long prefix, int prefixLength, int length, long[] dest) {
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = luhn(random, prefix, prefixLength, length);
+        }
+    }
+
+    /**
+     * @param gs1 either 978 or 979
+     * @return a random valid ISBN-13 with the given prefix
+     */
+    public static long isbn13(RandomService random, int gs1) {
+        if (gs1 != 978 && gs1 != 979) {
+            throw new IllegalArgumentException("ISBN prefix should be 978 or 979 but was " + gs1);
+        }
+        return withGtin(gs1 * POWERS_OF_TEN[9] + nextLong(random, POWERS_OF_TEN[9]));
+    }
+
+    /**
+     * Writes a value with exactly {@code length} digits, padded with leading zeros.
+     *
+     * @return the offset right after the value
+     */
+    public static int format(long value, int length, char[] dest, int offset) {
+        checkLength(length);
+        if (value < 0 || value >= POWERS_OF_TEN[length]) {
+            throw new IllegalArgumentException("Value " + value + " does not fit into " + length + " digits");
+        }
+        long rest = value;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            dest[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        return offset + length;
+    }
+
+    public static String toString(long value, int length) {
+        final char[] buffer = new char[length];
+        format(value, length, buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Writes a 9 digit payload followed by its ISBN-10 check digit, which may be 'X'.
+     *
+     * @return the offset right after the value
+     */
+    public static int formatIsbn10(long payload, char[] dest, int offset) {
+        final int end = format(payload, 9, dest, offset);
+        final int checkDigit = isbn10(payload);
+        dest[end] = checkDigit == ISBN10_X ? 'X' : (char) ('0' + checkDigit);
+        return end + 1;
+    }
+
+    /**
+     * Uniform long from 0 (inclusive) to {@code bound} (exclusive) from the seeded source of the random service.
+     */
+    static long nextLong(RandomService random, long bound) {
+        long bits;
+        long value;
+        do {
+            bits = random.nextLong() >>> 1;
+            value = bits % bound;
+        } while (bits - value + (bound - 1) < 0);
+        return value;
+    }
+
+    private static void checkPayload(long payload) {
+        if (payload < 0 || payload >= POWERS_OF_TEN[MAX_LENGTH - 1]) {
+            throw new IllegalArgumentException("Payload should have at most " + (MAX_LENGTH - 1) + " digits but was " + payload);
+        }
+    }
+
+    private static void checkLength(int length) {
+        if (length < 2 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Length should be between 2 and " + MAX_LENGTH + " but was " + length);
+        }
+    }
+}
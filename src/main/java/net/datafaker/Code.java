@@ -1,16 +1,13 @@
 package net.datafaker;
 
-import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * ISBN Rules : https://en.wikipedia.org/wiki/International_Standard_Book_Number
  */
 public class Code {
 
-    private static final int[] GTIN_8_CHECK_DIGITS = {3, 1, 3, 1, 3, 1, 3};
-    private static final int[] GTIN_13_CHECK_DIGITS = {1, 3, 1, 3, 1, 3, 1, 3, 1, 3, 1, 3};
+    private static final int IMEI_LENGTH = 15;
     private static final String[] REPORTING_BODY_IDENTIFIERS
         = {"01", "10", "30", "33", "35", "44", "45", "49", "50", "51", "52", "53", "54", "86", "91", "98", "99"};
 
@@ -32,7 +29,7 @@ protected Code(Faker faker) {
      * @return a GS1 code for an ISBN13, currently is only 978 and 979
      */
     public String isbnGs1() {
-        return faker.regexify("978|979");
+        return faker.random().nextBoolean() ? "978" : "979";
     }
 
     /**
@@ -46,7 +43,7 @@ public String isbnGs1() {
      * @return an ISBN group number
      */
     public String isbnGroup() {
-        return faker.regexify("[0-1]");
+        return faker.random().nextBoolean() ? "0" : "1";
     }
 
     /**
@@ -129,27 +126,39 @@ public String isbn13(boolean separator) {
         return separator ? isbn13.toString() : stripIsbnSeparator(isbn13);
     }
 
+    // The ISBN parts can be overridden with any number of digits, so the weights are counted from the left
+    // instead of using CheckDigits which expects the standard lengths.
     private int isbn10CheckDigit(CharSequence t) {
-        String value = stripIsbnSeparator(t);
         int sum = 0;
-        for (int i = 0; i < value.length(); i++) {
-            sum += ((i + 1) * Integer.parseInt(value.substring(i, i + 1)));
+        int position = 0;
+        for (int i = 0; i < t.length(); i++) {
+            final char c = t.charAt(i);
+            if (c != '-') {
+                sum += ++position * digit(c);
+            }
         }
         return sum % 11;
     }
 
     private int isbn13CheckDigit(CharSequence t) {
-        String value = stripIsbnSeparator(t);
         int sum = 0;
-        int multiplier;
-        for (int i = 0; i < value.length(); i++) {
-            multiplier = i % 2 == 0 ? 1 : 3;
-            sum += multiplier * Integer.parseInt(value.subSequence(i, i + 1).toString());
+        int position = 0;
+        for (int i = 0; i < t.length(); i++) {
+            final char c = t.charAt(i);
+            if (c != '-') {
+                sum += (position++ % 2 == 0 ? 1 : 3) * digit(c);
+            }
         }
-
         return (10 - sum % 10) % 10;
     }
 
+    private static int digit(char c) {
+        if (c < '0' || c > '9') {
+            throw new NumberFormatException("Invalid ISBN digit '" + c + "'");
+        }
+        return c - '0';
+    }
+
     private String stripIsbnSeparator(CharSequence t) {
         return HYPHEN.matcher(t.toString()).replaceAll("");
     }
@@ -159,40 +168,9 @@ public String asin() {
     }
 
     public String imei() {
-        char[] str = new char[15];
-        int len = str.length;
-
-        // Fill in the first two values of the string based with the specified prefix.
-        String arr = faker.options().option(REPORTING_BODY_IDENTIFIERS);
-        str[0] = arr.charAt(0);
-        str[1] = arr.charAt(1);
-
-        // Fill all the remaining numbers except for the last one with random values.
-        for (int i = 2; i < len - 1; i++) {
-            str[i] = Character.forDigit(faker.number().numberBetween(0, 9), 10);
-        }
-
-        // Calculate the Luhn checksum of the values thus far
-        int lenOffset = (len + 1) % 2;
-        int sum = 0;
-        for (int i = 0; i < len - 1; i++) {
-            if ((i + lenOffset) % 2 != 0) {
-                int t = Character.getNumericValue(str[i]) << 1;
-
-                if (t > 9) {
-                    t -= 9;
-                }
-
-                sum += t;
-            } else {
-                sum += Character.getNumericValue(str[i]);
-            }
-        }
-
-        // Choose the last digit so that it causes the entire string to pass the checksum.
-        str[len - 1] = Character.forDigit(((10 - (sum % 10)) % 10), 10);
-
-        return new String(str);
+        // The first two digits are a reporting body identifier, the last one is the Luhn check digit.
+        final long prefix = Long.parseLong(faker.options().option(REPORTING_BODY_IDENTIFIERS));
+        return CheckDigits.toString(CheckDigits.luhn(faker.random(), prefix, 2, IMEI_LENGTH), IMEI_LENGTH);
     }
 
     public String ean8() {
@@ -200,36 +178,14 @@ public String ean8() {
     }
 
     public String gtin8() {
-        return gtin("\\d{7}", GTIN_8_CHECK_DIGITS);
+        return CheckDigits.toString(CheckDigits.gtin(faker.random(), 8), 8);
     }
 
     public String gtin13() {
-        return gtin("\\d{12}", GTIN_13_CHECK_DIGITS);
+        return CheckDigits.toString(CheckDigits.gtin(faker.random(), 13), 13);
     }
 
     public String ean13() {
         return gtin13();
     }
-
-    private String gtin(String regex, int[] checkDigits) {
-        List<Character> values = faker.regexify(regex)
-            .chars()
-            .mapToObj(c -> (char) c)
-            .collect(Collectors.toList());
-
-        int sum = 0;
-        for (int i = 0; i < values.size(); i++) {
-            sum += Character.getNumericValue(values.get(i)) * checkDigits[i];
-        }
-        int checkDigit = 10 - sum % 10;
-        if (checkDigit == 10) {
-            values.add(Character.forDigit(0, 10));
-        } else {
-            values.add(Character.forDigit(checkDigit, 10));
-        }
-
-        return values.stream()
-            .map(String::valueOf)
-            .collect(Collectors.joining());
-    }
 }
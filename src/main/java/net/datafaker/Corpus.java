@@ -0,0 +1,421 @@
+package net.datafaker;
+
+import net.datafaker.distributions.LogNormalSampler;
+import net.datafaker.distributions.ZipfSampler;
+import net.datafaker.service.FakeValuesService;
+import net.datafaker.service.RandomService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generator of synthetic document corpora for search and indexing benchmarks.
+ * <p>
+ * Every document is a JSON object on its own line:
+ * <pre>
+ * {"id":42,"title":"The Sun Also Rises","author":"Jane Doe","date":"2020-05-17T08:12:45.123Z","tags":["vinyl","chia"],"body":"Nihil quam est ut."}
+ * </pre>
+ * Body words are drawn from a vocabulary extracted from the dictionaries given by
+ * {@link Builder#vocabulary(String...)}, with Zipfian frequencies: the vocabulary is shuffled once
+ * and the i-th word gets the rank i. Body lengths in words follow a log-normal distribution.
+ * Titles come from {@link Book#title()}, authors from {@link Name#name()} and tags from {@link Hipster#word()}.
+ * <p>
+ * A document depends only on the corpus seed and its id, so a corpus can be generated
+ * in any number of shards and threads, or a single document can be regenerated with
+ * {@link #write(long, Appendable)}. Documents are written straight to the output,
+ * no intermediate strings are built for the body.
+ */
+public class Corpus {
+    private static final String SHARD_FILE_FORMAT = "corpus-%05d.jsonl";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_BODY_WORDS = 1 << 20;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Locale locale;
+    private final long seed;
+    private final long documents;
+    private final int shards;
+    private final int parallelism;
+    private final String[] vocabulary;
+    private final double zipfExponent;
+    private final double bodyMu;
+    private final double bodySigma;
+    private final int minTags;
+    private final int maxTags;
+    private final long fromMillis;
+    private final long toMillis;
+
+    private Corpus(Builder builder, long seed, String[] vocabulary) {
+        this.locale = builder.locale;
+        this.seed = seed;
+        this.documents = builder.documents;
+        this.shards = builder.shards;
+        this.parallelism = builder.parallelism;
+        this.vocabulary = vocabulary;
+        this.zipfExponent = builder.zipfExponent;
+        this.bodyMu = Math.log(builder.medianBodyWords);
+        this.bodySigma = builder.bodySigma;
+        this.minTags = builder.minTags;
+        this.maxTags = builder.maxTags;
+        this.fromMillis = builder.from.toEpochMilli();
+        this.toMillis = builder.to.toEpochMilli();
+    }
+
+    /**
+     * @return number of distinct body words
+     */
+    public int vocabularySize() {
+        return vocabulary.length;
+    }
+
+    /**
+     * Writes the corpus to {@code directory} as {@code corpus-00000.jsonl}, {@code corpus-00001.jsonl}, ...
+     * Shard {@code i} holds a contiguous range of ids, shards are written in parallel.
+     *
+     * @return the written files
+     */
+    public List<Path> write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        final List<Path> files = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            files.add(directory.resolve(String.format(Locale.ROOT, SHARD_FILE_FORMAT, shard)));
+        }
+        final AtomicInteger nextShard = new AtomicInteger();
+        final Runnable worker = () -> {
+            final DocumentWriter documentWriter = new DocumentWriter();
+            int shard;
+            while ((shard = nextShard.getAndIncrement()) < shards) {
+                try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(files.get(shard)),
+                    StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+                    for (long id = documents * shard / shards, to = documents * (shard + 1) / shards; id < to; id++) {
+                        documentWriter.write(id, out);
+                        out.append('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        if (parallelism == 1 || shards == 1) {
+            try {
+                worker.run();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return files;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, shards));
+        try {
+            final List<Future<?>> futures = new ArrayList<>(parallelism);
+            for (int i = 0; i < Math.min(parallelism, shards); i++) {
+                futures.add(executor.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Corpus generation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new RuntimeException("Corpus generation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return files;
+    }
+
+    /**
+     * Writes a single document as one line of JSON without the trailing line separator.
+     * Creates a faker for the call, use {@link #write(Path)} for bulk generation.
+     */
+    public void write(long id, Appendable out) throws IOException {
+        new DocumentWriter().write(id, out);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Per thread state: a faker which random is reseeded for every document and samplers bound to it.
+     */
+    private class DocumentWriter {
+        private final Random random = new Random();
+        private final Faker faker = new Faker(locale, random);
+        private final RandomService randomService = faker.random();
+        private final ZipfSampler words = new ZipfSampler(randomService, vocabulary.length, zipfExponent);
+        private final LogNormalSampler bodyLength = new LogNormalSampler(randomService, bodyMu, bodySigma);
+
+        void write(long id, Appendable out) throws IOException {
+            if (id < 0 || id >= documents) {
+                throw new IllegalArgumentException("Document id " + id + " is out of range [0, " + documents + ")");
+            }
+            random.setSeed(mix(seed + id));
+            out.append("{\"id\":").append(Long.toString(id));
+            out.append(",\"title\":");
+            string(faker.book().title(), out);
+            out.append(",\"author\":");
+            string(faker.name().name(), out);
+            out.append(",\"date\":\"");
+            out.append(Instant.ofEpochMilli(fromMillis + (long) (randomService.nextDouble() * (toMillis - fromMillis))).toString());
+            out.append("\",\"tags\":[");
+            final int tags = minTags + randomService.nextInt(maxTags - minTags + 1);
+            for (int i = 0; i < tags; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                string(faker.hipster().word(), out);
+            }
+            out.append("],\"body\":\"");
+            body(out);
+            out.append("\"}");
+        }
+
+        private void body(Appendable out) throws IOException {
+            final long length = Math.max(1, Math.min(MAX_BODY_WORDS, Math.round(bodyLength.sample())));
+            int sentenceLeft = 0;
+            for (long i = 0; i < length; i++) {
+                final String word = vocabulary[words.sample() - 1];
+                if (sentenceLeft == 0) {
+                    if (i > 0) {
+                        out.append(". ");
+                    }
+                    sentenceLeft = 4 + randomService.nextInt(12);
+                    out.append(Character.toUpperCase(word.charAt(0)));
+                    escaped(word, 1, out);
+                } else {
+                    out.append(' ');
+                    escaped(word, 0, out);
+                }
+                sentenceLeft--;
+            }
+            out.append('.');
+        }
+    }
+
+    private static void string(String value, Appendable out) throws IOException {
+        out.append('"');
+        escaped(value, 0, out);
+        out.append('"');
+    }
+
+    /**
+     * Appends a JSON string content, the quotes are not appended.
+     */
+    private static void escaped(String value, int from, Appendable out) throws IOException {
+        int start = from;
+        for (int i = from; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.append(value, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        out.append(value, start, value.length());
+    }
+
+    /**
+     * Splits the dictionary values into lower case words, keeping the first occurrence order.
+     * Values with expressions like {@code #{Name.name}} are skipped.
+     */
+    private static String[] vocabulary(FakeValuesService values, List<String> keys, Locale locale) {
+        final Set<String> words = new LinkedHashSet<>();
+        for (String key : keys) {
+            final Object object = values.fetchObject(key);
+            if (!(object instanceof List)) {
+                throw new IllegalArgumentException("Key " + key + " is not a list of values");
+            }
+            for (Object value : (List<?>) object) {
+                final String text = String.valueOf(value);
+                if (text.contains("#{")) {
+                    continue;
+                }
+                int start = -1;
+                for (int i = 0; i <= text.length(); i++) {
+                    final boolean letter = i < text.length() && Character.isLetter(text.charAt(i));
+                    if (letter && start < 0) {
+                        start = i;
+                    } else if (!letter && start >= 0) {
+                        words.add(text.substring(start, i).toLowerCase(locale));
+                        start = -1;
+                    }
+                }
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    public static class Builder {
+        private Locale locale = Locale.ENGLISH;
+        private RandomService randomService = new RandomService();
+        private long documents = 1000;
+        private int shards = 1;
+        private int parallelism = 1;
+        private List<String> vocabularyKeys = Arrays.asList(
+            "lorem.words", "hipster.words",
+            "shakespeare.hamlet", "shakespeare.as_you_like_it", "shakespeare.king_richard_iii", "shakespeare.romeo_and_juliet",
+            "book.title");
+        private double zipfExponent = 1.07;
+        private double medianBodyWords = 300;
+        private double bodySigma = 0.8;
+        private int minTags = 0;
+        private int maxTags = 5;
+        private Instant from = Instant.parse("2000-01-01T00:00:00Z");
+        private Instant to = Instant.parse("2030-01-01T00:00:00Z");
+
+        public Builder locale(Locale locale) {
+            this.locale = Objects.requireNonNull(locale);
+            return this;
+        }
+
+        /**
+         * Source of the corpus seed, pass {@code faker.random()} to get reproducible corpora for a seeded faker.
+         * The seed is taken once in {@link #build()}.
+         */
+        public Builder random(RandomService randomService) {
+            this.randomService = Objects.requireNonNull(randomService);
+            return this;
+        }
+
+        public Builder documents(long documents) {
+            if (documents <= 0) {
+                throw new IllegalArgumentException("Number of documents should be positive");
+            }
+            this.documents = documents;
+            return this;
+        }
+
+        /**
+         * @param shards number of files {@link Corpus#write(Path)} splits the corpus into
+         */
+        public Builder shards(int shards) {
+            if (shards <= 0) {
+                throw new IllegalArgumentException("Number of shards should be positive");
+            }
+            this.shards = shards;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism should be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param keys dictionary keys with lists of words or phrases the body vocabulary is made of, e.g. {@code lorem.words}
+         */
+        public Builder vocabulary(String... keys) {
+            if (keys.length == 0) {
+                throw new IllegalArgumentException("At least one vocabulary key is required");
+            }
+            this.vocabularyKeys = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(keys)));
+            return this;
+        }
+
+        /**
+         * @param zipfExponent exponent of the word frequency distribution, natural languages are close to 1
+         */
+        public Builder zipfExponent(double zipfExponent) {
+            if (!(zipfExponent > 0) || Double.isInfinite(zipfExponent)) {
+                throw new IllegalArgumentException("Exponent should be a positive number, but was " + zipfExponent);
+            }
+            this.zipfExponent = zipfExponent;
+            return this;
+        }
+
+        /**
+         * @param medianWords median number of words of a body
+         * @param sigma       shape of the log-normal distribution of body lengths, the higher the longer the tail
+         */
+        public Builder bodyLength(double medianWords, double sigma) {
+            if (!(medianWords >= 1) || !(sigma >= 0)) {
+                throw new IllegalArgumentException("Median should be at least 1 and sigma should be non negative");
+            }
+            this.medianBodyWords = medianWords;
+            this.bodySigma = sigma;
+            return this;
+        }
+
+        public Builder tags(int min, int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Invalid range of tags [" + min + ", " + max + "]");
+            }
+            this.minTags = min;
+            this.maxTags = max;
+            return this;
+        }
+
+        /**
+         * @param from inclusive lower bound of the document dates
+         * @param to   exclusive upper bound of the document dates
+         */
+        public Builder dates(Instant from, Instant to) {
+            if (!from.isBefore(to)) {
+                throw new IllegalArgumentException("Invalid range, the upper bound is before the lower bound.");
+            }
+            this.from = from;
+            this.to = to;
+            return this;
+        }
+
+        public Corpus build() {
+            final String[] vocabulary = Corpus.vocabulary(new Faker(locale).fakeValuesService(), vocabularyKeys, locale);
+            if (vocabulary.length == 0) {
+                throw new IllegalArgumentException("Vocabulary " + vocabularyKeys + " is empty");
+            }
+            // ranks are given in a random order, otherwise the first dictionary would get all the frequent words
+            final long seed = randomService.nextLong();
+            Collections.shuffle(Arrays.asList(vocabulary), new Random(seed));
+            return new Corpus(this, seed, vocabulary);
+        }
+    }
+}
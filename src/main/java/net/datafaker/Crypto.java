@@ -1,11 +1,22 @@
 package net.datafaker;
 
-import java.math.BigInteger;
+import net.datafaker.service.RandomService;
+
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Hash-like values. {@link #md5()} and the other algorithm methods return random lowercase hex
+ * with the digest width of the algorithm, which is all fake data needs.
+ * Use {@link #digest(String)} for a real digest of a generated payload.
+ */
 public class Crypto {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
     private final Faker faker;
 
     protected Crypto(Faker faker) {
@@ -13,37 +24,90 @@ protected Crypto(Faker faker) {
     }
 
     public String md2() {
-        return generateString("MD2");
+        return hex(16);
     }
 
     public String md5() {
-        return generateString("MD5");
+        return hex(16);
     }
 
     public String sha1() {
-        return generateString("SHA-1");
+        return hex(20);
     }
 
     public String sha384() {
-        return generateString("SHA-384");
+        return hex(48);
     }
 
     public String sha256() {
-        return generateString("SHA-256");
+        return hex(32);
     }
 
     public String sha512() {
-        return generateString("SHA-512");
+        return hex(64);
+    }
+
+    /**
+     * @param bytes number of random bytes
+     * @return {@code 2 * bytes} random lowercase hex digits
+     */
+    public String hex(int bytes) {
+        final char[] hex = new char[2 * bytes];
+        hex(bytes, hex, 0);
+        return new String(hex);
+    }
+
+    /**
+     * Writes {@code 2 * bytes} random lowercase hex digits to {@code dest}, e.g. 32 for an MD5 sized value.
+     *
+     * @return the offset right after the digits
+     */
+    public int hex(int bytes, char[] dest, int offset) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Number of bytes should be positive but was " + bytes);
+        }
+        final int end = offset + 2 * bytes;
+        final RandomService random = faker.random();
+        int i = offset;
+        while (i < end) {
+            long bits = random.nextLong();
+            for (int n = Math.min(16, end - i); n > 0; n--) {
+                dest[i++] = HEX_DIGITS[(int) bits & 0xF];
+                bits >>>= 4;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * A real digest of random lorem characters, e.g. {@code digest("SHA-256")}.
+     * The digests are cached per thread.
+     *
+     * @param algorithm a {@link MessageDigest} algorithm
+     * @return the digest as lowercase hex, leading zeros included
+     */
+    public String digest(String algorithm) {
+        final MessageDigest messageDigest = messageDigest(algorithm);
+        final byte[] digest = messageDigest.digest(faker.lorem().characters().getBytes(StandardCharsets.UTF_8));
+        final char[] hex = new char[2 * digest.length];
+        for (int i = 0; i < digest.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+        return new String(hex);
     }
 
-    private String generateString(String algorithm) {
-        try {
-            MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
-            String characters = faker.lorem().characters();
-            messageDigest.update(characters.getBytes(StandardCharsets.UTF_8), 0, characters.length());
-            return new BigInteger(1, messageDigest.digest()).toString(16);
-        } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
-            throw new RuntimeException(noSuchAlgorithmException);
+    private static MessageDigest messageDigest(String algorithm) {
+        final Map<String, MessageDigest> digests = DIGESTS.get();
+        MessageDigest messageDigest = digests.get(algorithm);
+        if (messageDigest == null) {
+            try {
+                messageDigest = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+                throw new IllegalArgumentException("Unsupported digest algorithm " + algorithm, noSuchAlgorithmException);
+            }
+            digests.put(algorithm, messageDigest);
         }
+        return messageDigest;
     }
 }
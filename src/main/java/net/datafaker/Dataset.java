@@ -0,0 +1,468 @@
+package net.datafaker;
+
+import net.datafaker.distributions.LongSampler;
+import net.datafaker.distributions.PoissonSampler;
+import net.datafaker.distributions.ZipfSampler;
+import net.datafaker.service.RandomService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Generator of related tables (e.g. customers, their orders and order lines) with referential integrity.
+ * <p>
+ * Whole tables are never kept in memory. Keys of root tables come from a {@link KeyPool} which maps an index
+ * to a key, so a pool of 50M keys costs nothing (or a single {@code long[]} if the keys are given explicitly).
+ * Child rows are generated depth-first right after their parent row with a configurable {@link FanOut},
+ * and every row is passed to the sink of its table immediately. Any row may also reference a random key
+ * of any root table via {@link Row#reference(Table)}.
+ * <p>
+ * Root rows are split into chunks which are processed by {@code parallelism} threads.
+ * Every chunk has its own {@link RandomService} seeded from the base seed and the chunk number,
+ * so the generated data does not depend on the number of threads. With {@code parallelism > 1}
+ * row factories and sinks are called concurrently and should be thread-safe.
+ * <pre>
+ * Dataset.Table&lt;String&gt; customers = new Dataset.Table&lt;String&gt;("customers")
+ *     .keys(Dataset.KeyPool.sequence(50_000_000))
+ *     .row(row -&gt; row.getKey() + "," + row.getRandom().nextInt(100))
+ *     .sink(customersWriter::println);
+ * Dataset.Table&lt;String&gt; orders = new Dataset.Table&lt;String&gt;("orders")
+ *     .parent(customers, Dataset.FanOut.poisson(40))
+ *     .row(row -&gt; row.getKey() + "," + row.getParentKey())
+ *     .sink(ordersWriter::println);
+ * new Dataset.Builder().random(faker.random()).tables(customers, orders).parallelism(8).build().generate();
+ * </pre>
+ */
+public class Dataset {
+    /**
+     * Number of child keys reserved for every chunk of root rows, child keys are
+     * {@code chunk * CHILD_KEYS_PER_CHUNK + number of the child in the chunk}.
+     */
+    public static final long CHILD_KEYS_PER_CHUNK = 1L << 32;
+
+    private final List<Table<?>> tables;
+    private final Map<Table<?>, List<Table<?>>> children;
+    private final RandomService randomService;
+    private final int parallelism;
+    private final int chunkSize;
+
+    private Dataset(Builder builder) {
+        this.tables = builder.tables;
+        this.randomService = builder.randomService;
+        this.parallelism = builder.parallelism;
+        this.chunkSize = builder.chunkSize;
+        this.children = new IdentityHashMap<>();
+        for (Table<?> table : tables) {
+            children.put(table, new ArrayList<>());
+        }
+        for (Table<?> table : tables) {
+            if (table.parent != null) {
+                final List<Table<?>> siblings = children.get(table.parent);
+                if (siblings == null) {
+                    throw new IllegalArgumentException("Parent of table " + table.name + " is not a part of the dataset");
+                }
+                siblings.add(table);
+            }
+        }
+    }
+
+    /**
+     * Generates all the tables to their sinks. Returns when all the rows are generated.
+     *
+     * @throws RuntimeException if a row factory or a sink throws an exception
+     */
+    public void generate() {
+        final long seed = randomService.nextLong();
+        for (int i = 0; i < tables.size(); i++) {
+            final Table<?> table = tables.get(i);
+            if (table.parent == null) {
+                generateRoot(table, seed + i * 0x9E3779B97F4A7C15L);
+            }
+        }
+    }
+
+    private void generateRoot(Table<?> root, long seed) {
+        final long size = root.keys.size();
+        final long chunks = (size + chunkSize - 1) / chunkSize;
+        if (chunks >= CHILD_KEYS_PER_CHUNK >>> 1) {
+            throw new IllegalArgumentException("Too many chunks for table " + root.name + ", increase the chunk size");
+        }
+        final AtomicLong nextChunk = new AtomicLong();
+        final Runnable worker = () -> {
+            final Worker w = new Worker();
+            long chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                w.generateChunk(root, seed, chunk, chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize));
+            }
+        };
+        if (parallelism == 1 || chunks == 1) {
+            worker.run();
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(executor.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Generation of table " + root.name + " was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Generation of table " + root.name + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private class Worker {
+        private final Map<Table<?>, Row> rows = new IdentityHashMap<>();
+        private final Map<Table<?>, LongSampler> fanOuts = new IdentityHashMap<>();
+        private final Map<Table<?>, long[]> childCounters = new IdentityHashMap<>();
+
+        private void generateChunk(Table<?> root, long seed, long chunk, long from, long to) {
+            final RandomService random = new RandomService(new Random(mix(seed + chunk)));
+            rows.clear();
+            fanOuts.clear();
+            childCounters.clear();
+            final long childKeyBase = chunk * CHILD_KEYS_PER_CHUNK;
+            for (long index = from; index < to; index++) {
+                emit(root, root.keys.key(index), -1, index, random, childKeyBase);
+            }
+        }
+
+        private void emit(Table<?> table, long key, long parentKey, long index, RandomService random, long childKeyBase) {
+            Row row = rows.get(table);
+            if (row == null) {
+                row = new Row(random);
+                rows.put(table, row);
+            }
+            row.key = key;
+            row.parentKey = parentKey;
+            row.index = index;
+            table.emit(row);
+            for (Table<?> child : children.get(table)) {
+                LongSampler fanOut = fanOuts.get(child);
+                if (fanOut == null) {
+                    fanOut = child.fanOut.sampler(random);
+                    fanOuts.put(child, fanOut);
+                    childCounters.put(child, new long[1]);
+                }
+                final long[] counter = childCounters.get(child);
+                final long count = fanOut.sample();
+                if (counter[0] + count > CHILD_KEYS_PER_CHUNK) {
+                    throw new IllegalStateException("Too many rows of table " + child.name + " in one chunk, decrease the chunk size");
+                }
+                for (long i = 0; i < count; i++) {
+                    emit(child, childKeyBase + counter[0]++, key, i, random, childKeyBase);
+                }
+            }
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer, makes seeds of neighbour chunks unrelated.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Creates a row of a table from the row position.
+     */
+    @FunctionalInterface
+    public interface RowFactory<R> {
+        R create(Row row);
+    }
+
+    /**
+     * Position of a generated row. The object is reused, so it should not be stored.
+     */
+    public static final class Row {
+        private final RandomService random;
+        private long key;
+        private long parentKey;
+        private long index;
+
+        private Row(RandomService random) {
+            this.random = random;
+        }
+
+        /**
+         * @return the primary key of the row
+         */
+        public long getKey() {
+            return key;
+        }
+
+        /**
+         * @return the key of the parent row or -1 for rows of root tables
+         */
+        public long getParentKey() {
+            return parentKey;
+        }
+
+        /**
+         * @return index of the row in the key pool for root tables or number of the row within its parent
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the random service of the current chunk, use it to keep the generation reproducible
+         */
+        public RandomService getRandom() {
+            return random;
+        }
+
+        /**
+         * @return a uniformly chosen key of the given root table, e.g. a product for an order line
+         */
+        public long reference(Table<?> table) {
+            if (table.parent != null) {
+                throw new IllegalArgumentException("Only keys of root tables can be referenced, " + table.name + " has a parent");
+            }
+            return table.keys.key(nextIndex(table.keys.size()));
+        }
+
+        private long nextIndex(long size) {
+            if (size <= Integer.MAX_VALUE) {
+                return random.nextInt((int) size);
+            }
+            // rejection sampling to keep the distribution uniform
+            final long limit = Long.MAX_VALUE - Long.MAX_VALUE % size;
+            long value;
+            do {
+                value = random.nextLong() >>> 1;
+            } while (value >= limit);
+            return value % size;
+        }
+    }
+
+    /**
+     * Keys of a root table addressed by index. Pools do not store the keys unless they are given explicitly.
+     */
+    public interface KeyPool {
+        long size();
+
+        long key(long index);
+
+        /**
+         * Keys {@code 0, 1, ..., size - 1}.
+         */
+        static KeyPool sequence(long size) {
+            return sequence(0, size);
+        }
+
+        /**
+         * Keys {@code first, first + 1, ..., first + size - 1}.
+         */
+        static KeyPool sequence(long first, long size) {
+            return mapped(size, index -> first + index);
+        }
+
+        /**
+         * Keys computed from the index, e.g. a bijective scrambling function for non sequential ids.
+         */
+        static KeyPool mapped(long size, LongUnaryOperator indexToKey) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Size should be non negative");
+            }
+            Objects.requireNonNull(indexToKey);
+            return new KeyPool() {
+                @Override
+                public long size() {
+                    return size;
+                }
+
+                @Override
+                public long key(long index) {
+                    return indexToKey.applyAsLong(index);
+                }
+            };
+        }
+
+        /**
+         * Explicitly given keys, the array is not copied.
+         */
+        static KeyPool of(long... keys) {
+            return new KeyPool() {
+                @Override
+                public long size() {
+                    return keys.length;
+                }
+
+                @Override
+                public long key(long index) {
+                    return keys[(int) index];
+                }
+            };
+        }
+    }
+
+    /**
+     * Distribution of the number of children per parent row.
+     * The sampler is created once per chunk with the random service of the chunk.
+     */
+    @FunctionalInterface
+    public interface FanOut {
+        LongSampler sampler(RandomService random);
+
+        static FanOut fixed(long count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Count should be non negative");
+            }
+            return random -> () -> count;
+        }
+
+        /**
+         * @param min minimum number of children (inclusive)
+         * @param max maximum number of children (inclusive)
+         */
+        static FanOut uniform(int min, int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Invalid range of children count: " + min + ".." + max);
+            }
+            return random -> () -> min + random.nextInt(max - min + 1);
+        }
+
+        static FanOut poisson(double mean) {
+            if (!(mean > 0) || Double.isInfinite(mean)) {
+                throw new IllegalArgumentException("Mean should be a positive number, but was " + mean);
+            }
+            return random -> new PoissonSampler(random, mean);
+        }
+
+        /**
+         * Power law: most parents have one or a few children, some have up to {@code max}.
+         */
+        static FanOut zipf(int max, double exponent) {
+            return random -> {
+                final ZipfSampler zipf = new ZipfSampler(random, max, exponent);
+                return zipf::sample;
+            };
+        }
+    }
+
+    public static class Table<R> {
+        private final String name;
+        private KeyPool keys;
+        private Table<?> parent;
+        private FanOut fanOut;
+        private RowFactory<? extends R> rowFactory;
+        private Consumer<? super R> sink;
+
+        public Table(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+
+        /**
+         * Makes this table a root table with the given keys.
+         */
+        public Table<R> keys(KeyPool keys) {
+            this.keys = Objects.requireNonNull(keys);
+            return this;
+        }
+
+        /**
+         * Makes this table a child table. For every row of {@code parent}
+         * {@code fanOut} rows of this table are generated.
+         */
+        public Table<R> parent(Table<?> parent, FanOut fanOut) {
+            this.parent = Objects.requireNonNull(parent);
+            this.fanOut = Objects.requireNonNull(fanOut);
+            return this;
+        }
+
+        public Table<R> row(RowFactory<? extends R> rowFactory) {
+            this.rowFactory = Objects.requireNonNull(rowFactory);
+            return this;
+        }
+
+        public Table<R> sink(Consumer<? super R> sink) {
+            this.sink = Objects.requireNonNull(sink);
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private void emit(Row row) {
+            sink.accept(rowFactory.create(row));
+        }
+
+        private void validate() {
+            if (rowFactory == null || sink == null) {
+                throw new IllegalArgumentException("Row factory and sink are required for table " + name);
+            }
+            if ((keys == null) == (parent == null)) {
+                throw new IllegalArgumentException("Table " + name + " should have either keys or a parent");
+            }
+        }
+    }
+
+    public static class Builder {
+        private final List<Table<?>> tables = new ArrayList<>();
+        private RandomService randomService = new RandomService();
+        private int parallelism = 1;
+        private int chunkSize = 1 << 16;
+
+        public Builder tables(Table<?>... tables) {
+            this.tables.addAll(Arrays.asList(tables));
+            return this;
+        }
+
+        /**
+         * Source of the base seed, pass {@code faker.random()} to get reproducible datasets for a seeded faker.
+         */
+        public Builder random(RandomService randomService) {
+            this.randomService = Objects.requireNonNull(randomService);
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism should be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Number of root rows processed as one unit of work.
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size should be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public Dataset build() {
+            for (Table<?> table : tables) {
+                table.validate();
+            }
+            return new Dataset(this);
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package net.datafaker;
 
+import net.datafaker.distributions.ExponentialSampler;
+import net.datafaker.service.BoundedCache;
+
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
-import java.util.GregorianCalendar;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -14,6 +22,11 @@
 public class DateAndTime {
     private static final int DEFAULT_MIN_AGE = 18;
     private static final int DEFAULT_MAX_AGE = 65;
+    private static final int MAX_CACHED_FORMATTERS = 256;
+    private static final BoundedCache<String, DateTimeFormatter> FORMATTERS =
+        new BoundedCache<>("dateTimeFormatters", MAX_CACHED_FORMATTERS);
+    private static final BoundedCache<String, ThreadLocal<SimpleDateFormat>> DATE_FORMATS =
+        new BoundedCache<>("dateFormats", MAX_CACHED_FORMATTERS);
 
     private final Faker faker;
 
@@ -251,13 +264,12 @@ public String birthday(String pattern) {
      * @throws IllegalArgumentException if the {@code maxAge} is lower than {@code minAge}.
      */
     public Date birthday(int minAge, int maxAge) {
-        int currentYear = Calendar.getInstance().get(Calendar.YEAR);
-        int currentMonth = Calendar.getInstance().get(Calendar.MONTH);
-        int currentDay = Calendar.getInstance().get(Calendar.DAY_OF_MONTH);
-        Calendar from = new GregorianCalendar(currentYear - maxAge, currentMonth, currentDay);
-        Calendar to = new GregorianCalendar(currentYear - minAge, currentMonth, currentDay);
+        final LocalDate today = LocalDate.now();
+        final ZoneId zone = ZoneId.systemDefault();
+        long from = yearsAgo(today, maxAge).atStartOfDay(zone).toInstant().toEpochMilli();
+        long to = yearsAgo(today, minAge).atStartOfDay(zone).toInstant().toEpochMilli();
 
-        return between(from.getTime(), to.getTime());
+        return between(new Date(from), new Date(to));
     }
 
     /**
@@ -273,7 +285,147 @@ public String birthday(int minAge, int maxAge, String pattern) {
         return toString(birthday(minAge, maxAge), pattern);
     }
 
+    /**
+     * Generates a random birthday between two ages from now.
+     *
+     * @param minAge the minimal age
+     * @param maxAge the maximal age
+     * @return a random birthday between {@code minAge} and {@code maxAge} years ago from now.
+     * @throws IllegalArgumentException if the {@code maxAge} is lower than {@code minAge}.
+     */
+    public LocalDate birthdayLocalDate(int minAge, int maxAge) {
+        final LocalDate today = LocalDate.now();
+        return localDate(yearsAgo(today, maxAge), yearsAgo(today, minAge));
+    }
+
+    /**
+     * Generates a random number of milliseconds since the epoch.
+     *
+     * @param from the lower bound inclusive
+     * @param to   the upper bound exclusive
+     * @return a random number of milliseconds since the epoch between {@code from} and {@code to}.
+     * @throws IllegalArgumentException if {@code to} is lower than {@code from}.
+     */
+    public long epochMillis(long from, long to) {
+        return offset(from, to);
+    }
+
+    /**
+     * Generates a random number of days since the epoch, see {@link LocalDate#toEpochDay()}.
+     *
+     * @param from the lower bound inclusive
+     * @param to   the upper bound exclusive
+     * @return a random epoch day between {@code from} and {@code to}.
+     * @throws IllegalArgumentException if {@code to} is lower than {@code from}.
+     */
+    public long epochDay(long from, long to) {
+        return offset(from, to);
+    }
+
+    /**
+     * Generates a random date between two dates.
+     *
+     * @param from the lower bound inclusive
+     * @param to   the upper bound exclusive
+     * @return a random date between {@code from} and {@code to}.
+     * @throws IllegalArgumentException if {@code to} represents an earlier date than {@code from}.
+     */
+    public LocalDate localDate(LocalDate from, LocalDate to) {
+        return LocalDate.ofEpochDay(epochDay(from.toEpochDay(), to.toEpochDay()));
+    }
+
+    /**
+     * Generates a random instant between two instants with millisecond precision.
+     *
+     * @param from the lower bound inclusive
+     * @param to   the upper bound exclusive
+     * @return a random instant between {@code from} and {@code to}.
+     * @throws IllegalArgumentException if {@code to} represents an earlier instant than {@code from}.
+     */
+    public Instant instant(Instant from, Instant to) {
+        return Instant.ofEpochMilli(epochMillis(from.toEpochMilli(), to.toEpochMilli()));
+    }
+
+    /**
+     * Generates a random date-time with the given offset between two instants with millisecond precision.
+     *
+     * @param from   the lower bound inclusive
+     * @param to     the upper bound exclusive
+     * @param offset the offset of the result
+     * @return a random date-time between {@code from} and {@code to}.
+     * @throws IllegalArgumentException if {@code to} represents an earlier instant than {@code from}.
+     */
+    public OffsetDateTime offsetDateTime(Instant from, Instant to, ZoneOffset offset) {
+        return OffsetDateTime.ofInstant(instant(from, to), offset);
+    }
+
+    /**
+     * Fills the array with sorted random epoch milliseconds uniformly distributed between two bounds.
+     * The values are generated already sorted in O(n) (via normalized exponential spacings), no sorting is required.
+     *
+     * @param values the array to fill
+     * @param from   the lower bound inclusive
+     * @param to     the upper bound exclusive
+     * @throws IllegalArgumentException if {@code to} is lower than {@code from}.
+     */
+    public void sortedEpochMillis(long[] values, long from, long to) {
+        if (to < from) {
+            throw new IllegalArgumentException("Invalid range, the upper bound is before the lower bound.");
+        }
+        if (values.length == 0) {
+            return;
+        }
+        // the k-th partial sum of n + 1 exponentials divided by the total sum
+        // is distributed as the k-th order statistic of n uniforms.
+        // Partial sums are kept in the array itself as raw double bits to avoid a temporary array.
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += ExponentialSampler.standardExponential(faker.random());
+            values[i] = Double.doubleToRawLongBits(sum);
+        }
+        sum += ExponentialSampler.standardExponential(faker.random());
+        final double range = (double) to - (double) from;
+        for (int i = 0; i < values.length; i++) {
+            final long value = from + (long) (Double.longBitsToDouble(values[i]) / sum * range);
+            values[i] = Math.min(value, Math.max(from, to - 1));
+        }
+    }
+
+    /**
+     * Formats the temporal object with a cached {@link DateTimeFormatter} for the pattern.
+     *
+     * @param temporal the date or time to format
+     * @param pattern  date time pattern, see {@link DateTimeFormatter}
+     * @return a string representation of {@code temporal}
+     */
+    public String format(TemporalAccessor temporal, String pattern) {
+        return FORMATTERS.get(pattern, DateTimeFormatter::ofPattern).format(temporal);
+    }
+
+    /**
+     * The patterns of the {@link Date} based methods keep their {@link SimpleDateFormat} meaning,
+     * e.g. {@code u} is the day of the week there but the year for {@link DateTimeFormatter}.
+     */
     private String toString(Date date, String pattern) {
-        return new SimpleDateFormat(pattern).format(date);
+        return DATE_FORMATS.get(pattern, key -> ThreadLocal.withInitial(() -> new SimpleDateFormat(key)))
+            .get().format(date);
+    }
+
+    private long offset(long from, long to) {
+        if (to < from) {
+            throw new IllegalArgumentException("Invalid range, the upper bound is before the lower bound.");
+        }
+        if (from == to) {
+            return from;
+        }
+        final long result = from + (long) (faker.random().nextDouble() * ((double) to - (double) from));
+        return Math.min(result, to - 1);
+    }
+
+    /**
+     * Same as {@code new GregorianCalendar(year - years, month, day)}: 29 February of a non leap year becomes 1 March.
+     */
+    private static LocalDate yearsAgo(LocalDate date, int years) {
+        return LocalDate.of(date.getYear() - years, date.getMonth(), 1).plusDays(date.getDayOfMonth() - 1L);
     }
 }
@@ -1,12 +1,15 @@
 package net.datafaker;
 
+import net.datafaker.dispatch.GenerateDispatch;
 import net.datafaker.service.FakeValuesService;
 import net.datafaker.service.RandomService;
 
+import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -15,6 +18,7 @@
  *
  * @author ren
  */
+@GenerateDispatch
 public class Faker {
     private final RandomService randomService;
     private final FakeValuesService fakeValuesService;
@@ -688,6 +692,31 @@ public String resolve(String key) {
         return this.fakeValuesService.resolve(key, this, this);
     }
 
+    /**
+     * Loads the dictionaries of the given keys or sections in parallel, e.g. at startup so that the first
+     * {@code name().firstName()} does not stall:
+     * <pre>
+     * faker.preload("name", "address.city").join();
+     * </pre>
+     *
+     * @param keysOrSections keys like {@code name.first_name} or sections like {@code name}
+     * @return a future completed once everything is loaded
+     * @see FakeValuesService#preload(java.util.Collection, java.util.concurrent.Executor)
+     */
+    public CompletableFuture<Void> preload(String... keysOrSections) {
+        return this.fakeValuesService.preload(Arrays.asList(keysOrSections));
+    }
+
+    /**
+     * Loads all the dictionaries of the locale chain in parallel.
+     *
+     * @return a future completed once everything is loaded
+     * @see FakeValuesService#preloadAll(java.util.concurrent.Executor)
+     */
+    public CompletableFuture<Void> preloadAll() {
+        return this.fakeValuesService.preloadAll();
+    }
+
     /**
      * Allows the evaluation of native YML expressions to allow you to build your
      * own.
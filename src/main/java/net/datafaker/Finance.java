@@ -1,12 +1,25 @@
 package net.datafaker;
 
-import java.math.BigInteger;
-import java.util.*;
-import java.util.regex.Pattern;
+import net.datafaker.service.BoundedCache;
+import net.datafaker.service.Permutation;
+import net.datafaker.service.RandomService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
 
 public class Finance {
-    private static final Pattern NUMBERS = Pattern.compile("[^0-9]");
-    private static final Pattern EMPTY_STRING = Pattern.compile("");
+    private static final int IBAN_PREFIX_LENGTH = 4;
+    private static final int MAX_CACHED_TEMPLATES = 256;
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] UPPER_CASE_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] UPPER_CASE_LETTERS_AND_DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+    private static final BoundedCache<String, Layout> CREDIT_CARD_LAYOUTS =
+        new BoundedCache<>("creditCardLayouts", MAX_CACHED_TEMPLATES);
     private final Faker faker;
 
     protected Finance(Faker faker) {
@@ -16,28 +29,39 @@ protected Finance(Faker faker) {
 
     private static final Map<String, String> countryCodeToBasicBankAccountNumberPattern =
         createCountryCodeToBasicBankAccountNumberPatternMap();
+    private static final Map<String, Layout> countryCodeToBasicBankAccountNumberLayout =
+        compileLayouts(countryCodeToBasicBankAccountNumberPattern);
+    private static final String[] countryCodes =
+        new TreeSet<>(countryCodeToBasicBankAccountNumberPattern.keySet()).toArray(new String[0]);
 
     public String creditCard(CreditCardType creditCardType) {
-        final String key = String.format("finance.credit_card.%s", creditCardType.toString().toLowerCase(Locale.ROOT));
-        String value = faker.fakeValuesService().resolve(key, this, faker);
-        final String template = faker.numerify(value);
-
-        String[] split = EMPTY_STRING.split(NUMBERS.matcher(template).replaceAll(""));
-        List<Integer> reversedAsInt = new ArrayList<>();
-        for (int i = 0; i < split.length; i++) {
-            final String current = split[split.length - 1 - i];
-            if (!current.isEmpty()) {
-                reversedAsInt.add(Integer.valueOf(current));
-            }
-        }
-        int luhnSum = 0;
-        int multiplier = 1;
-        for (Integer digit : reversedAsInt) {
-            multiplier = (multiplier == 2 ? 1 : 2);
-            luhnSum += sum(EMPTY_STRING.split(String.valueOf(digit * multiplier)));
+        final char[] buffer = new char[Layout.MAX_LENGTH];
+        return new String(buffer, 0, creditCard(creditCardType, buffer, 0));
+    }
+
+    /**
+     * Writes a credit card number to {@code dest} without creating any intermediate string,
+     * so a single buffer can be reused to generate card numbers in bulk.
+     *
+     * @param dest buffer with enough space for the number, 32 characters are always enough for the default templates
+     * @return the offset right after the number
+     */
+    public int creditCard(CreditCardType creditCardType, char[] dest, int offset) {
+        final String key = "finance.credit_card." + creditCardType.toString().toLowerCase(Locale.ROOT);
+        final Object value = faker.fakeValuesService().fetch(key);
+        final String template;
+        if (value instanceof String && isSlashDelimited((String) value)) {
+            template = (String) value;
+        } else {
+            // not a plain template, e.g. an expression: resolve it the regular way
+            template = faker.fakeValuesService().resolve(key, this, faker);
         }
-        int luhnDigit = (10 - (luhnSum % 10)) % 10;
-        return template.replace('\\', ' ').replace('/', ' ').trim().replace('L', String.valueOf(luhnDigit).charAt(0));
+        return CREDIT_CARD_LAYOUTS.get(template, Layout::compileCreditCardTemplate)
+            .fillCreditCard(faker.random(), dest, offset);
+    }
+
+    private static boolean isSlashDelimited(String value) {
+        return value.length() > 1 && value.charAt(0) == '/' && value.charAt(value.length() - 1) == '/';
     }
 
     public String creditCard() {
@@ -49,63 +73,348 @@ public String creditCard() {
      * Generates a random Business Identifier Code
      */
     public String bic() {
-        return faker.regexify("([A-Z]){4}([A-Z]){2}([0-9A-Z]){2}([0-9A-Z]{3})?");
+        final RandomService random = faker.random();
+        final char[] bic = new char[random.nextBoolean() ? 11 : 8];
+        for (int i = 0; i < bic.length; i++) {
+            final char[] alphabet = i < 6 ? UPPER_CASE_LETTERS : UPPER_CASE_LETTERS_AND_DIGITS;
+            bic[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(bic);
     }
 
     public String iban() {
-        List<String> countryCodes = new ArrayList<>(countryCodeToBasicBankAccountNumberPattern.keySet());
-        String randomCountryCode = countryCodes.get(faker.random().nextInt(countryCodes.size()));
-        return iban(randomCountryCode);
+        return iban(countryCodes[faker.random().nextInt(countryCodes.length)]);
     }
 
     public String iban(String countryCode) {
-        String basicBankAccountNumber = faker.regexify(countryCodeToBasicBankAccountNumberPattern.get(countryCode));
-        String checkSum = calculateIbanChecksum(countryCode, basicBankAccountNumber);
-        return countryCode + checkSum + basicBankAccountNumber;
+        final Layout layout = bbanLayout(countryCode);
+        final char[] iban = new char[IBAN_PREFIX_LENGTH + layout.length()];
+        layout.fill(faker.random(), iban, IBAN_PREFIX_LENGTH);
+        writeIbanPrefix(countryCode, iban, 0, iban.length);
+        return new String(iban);
+    }
+
+    /**
+     * Creates a generator of IBANs of one country for bulk generation, see {@link IbanGenerator}.
+     *
+     * @param unique if true the generator never returns the same IBAN twice
+     */
+    public IbanGenerator ibanGenerator(String countryCode, boolean unique) {
+        return new IbanGenerator(countryCode, bbanLayout(countryCode), faker.random(), unique);
+    }
+
+    private static Layout bbanLayout(String countryCode) {
+        final Layout layout = countryCodeToBasicBankAccountNumberLayout.get(countryCode);
+        if (layout == null) {
+            throw new IllegalArgumentException("Unsupported IBAN country code " + countryCode);
+        }
+        return layout;
     }
 
     private CreditCardType randomCreditCardType() {
         return CreditCardType.values()[this.faker.random().nextInt(CreditCardType.values().length)];
     }
 
-    private static int sum(String[] string) {
-        int sum = 0;
-        for (String s : string) {
-            if (!s.isEmpty()) {
-                sum += Integer.parseInt(s);
-            }
+    /**
+     * Writes the country code and the check digits in front of the BBAN which is already in {@code iban[offset + 4]..iban[end - 1]}.
+     * The check digits are {@code 98 - (BBAN + country code + "00") mod 97}, where letters count as 10..35.
+     * The remainder is computed digit by digit, the intermediate values never exceed 9700.
+     */
+    private static void writeIbanPrefix(String countryCode, char[] iban, int offset, int end) {
+        int mod97 = 0;
+        for (int i = offset + IBAN_PREFIX_LENGTH; i < end; i++) {
+            mod97 = mod97(mod97, iban[i]);
         }
-        return sum;
+        mod97 = mod97(mod97, countryCode.charAt(0));
+        mod97 = mod97(mod97, countryCode.charAt(1));
+        mod97 = mod97 * 100 % 97;
+        final int checkDigits = 98 - mod97;
+        iban[offset] = countryCode.charAt(0);
+        iban[offset + 1] = countryCode.charAt(1);
+        iban[offset + 2] = (char) ('0' + checkDigits / 10);
+        iban[offset + 3] = (char) ('0' + checkDigits % 10);
     }
 
-    private static String calculateIbanChecksum(String countryCode, String basicBankAccountNumber) {
-        String basis = basicBankAccountNumber + countryCode + "00";
+    private static int mod97(int mod97, char c) {
+        if (c >= '0' && c <= '9') {
+            return (mod97 * 10 + (c - '0')) % 97;
+        }
+        final int value = Character.toLowerCase(c) - 'a' + 10;
+        return (mod97 * 100 + value) % 97;
+    }
 
-        StringBuilder sb = new StringBuilder();
-        char[] characters = basis.toLowerCase().toCharArray();
-        for (char c : characters) {
-            if (Character.isLetter(c)) {
-                sb.append((c - 'a') + 10);
+    /**
+     * Generates IBANs of one country into caller supplied buffers.
+     * <p>
+     * In unique mode the rightmost BBAN characters hold a random permutation of a counter
+     * (see {@link Permutation}), so no IBAN is returned twice and no set of the returned values is kept.
+     * The number of unique IBANs is limited by {@link #capacity()}.
+     * <p>
+     * A generator is not thread safe.
+     */
+    public static final class IbanGenerator {
+        private final String countryCode;
+        private final Layout layout;
+        private final RandomService random;
+        private final Permutation permutation;
+        private final int uniquePositions;
+        private long next;
+
+        private IbanGenerator(String countryCode, Layout layout, RandomService random, boolean unique) {
+            this.countryCode = countryCode;
+            this.layout = layout;
+            this.random = random;
+            if (unique) {
+                this.uniquePositions = layout.uniquePositions();
+                this.permutation = new Permutation(layout.combinations(uniquePositions), random);
             } else {
-                sb.append(c);
+                this.uniquePositions = 0;
+                this.permutation = null;
             }
         }
 
-        int mod97 = new BigInteger(sb.toString()).mod(BigInteger.valueOf(97L)).intValue();
-        return padLeftZeros(String.valueOf(98 - mod97), 2);
+        /**
+         * @return number of characters of every IBAN
+         */
+        public int length() {
+            return IBAN_PREFIX_LENGTH + layout.length();
+        }
+
+        /**
+         * @return how many IBANs can be generated, {@link Long#MAX_VALUE} if they are not unique
+         */
+        public long capacity() {
+            return permutation == null ? Long.MAX_VALUE : permutation.size();
+        }
+
+        public String next() {
+            final char[] iban = new char[length()];
+            next(iban, 0);
+            return new String(iban);
+        }
+
+        /**
+         * Writes an IBAN to {@code dest[offset]..dest[offset + length() - 1]}.
+         *
+         * @return the offset right after the IBAN
+         * @throws NoSuchElementException if the unique IBANs are exhausted
+         */
+        public int next(char[] dest, int offset) {
+            final int end = offset + length();
+            if (end > dest.length) {
+                throw new IndexOutOfBoundsException("Not enough space for an IBAN at offset " + offset);
+            }
+            final int bban = offset + IBAN_PREFIX_LENGTH;
+            if (permutation == null) {
+                layout.fill(random, dest, bban);
+            } else {
+                if (next >= permutation.size()) {
+                    throw new NoSuchElementException("All " + permutation.size() + " unique IBANs are used");
+                }
+                layout.fill(random, dest, bban, layout.length() - uniquePositions);
+                layout.encode(permutation.apply(next++), dest, bban, layout.length() - uniquePositions);
+            }
+            writeIbanPrefix(countryCode, dest, offset, end);
+            return end;
+        }
     }
 
-    private static String padLeftZeros(String inputString, int length) {
-        if (inputString.length() >= length) {
-            return inputString;
+    /**
+     * A fixed length format where every position is either a literal or a character from an alphabet,
+     * compiled once from the simple regular expressions used for BBANs ({@code \d}, character classes
+     * with ranges, literals and {@code {n}} quantifiers) or from credit card templates.
+     */
+    private static final class Layout {
+        static final int MAX_LENGTH = 64;
+        static final char LUHN = 'L';
+
+        // null for literals
+        private final char[][] alphabets;
+        private final char[] literals;
+        private final int luhnPosition;
+
+        private Layout(List<char[]> alphabets, StringBuilder literals, int luhnPosition) {
+            this.alphabets = alphabets.toArray(new char[0][]);
+            this.literals = literals.toString().toCharArray();
+            this.luhnPosition = luhnPosition;
+        }
+
+        int length() {
+            return literals.length;
+        }
+
+        static Layout compileRegex(String regex) {
+            final List<char[]> alphabets = new ArrayList<>();
+            final StringBuilder literals = new StringBuilder();
+            int i = 0;
+            while (i < regex.length()) {
+                final char[] alphabet;
+                char literal = 0;
+                final char c = regex.charAt(i);
+                if (c == '\\' && i + 1 < regex.length() && regex.charAt(i + 1) == 'd') {
+                    alphabet = DIGITS;
+                    i += 2;
+                } else if (c == '[') {
+                    final int close = regex.indexOf(']', i);
+                    if (close < 0) {
+                        throw new IllegalArgumentException("Unclosed character class in " + regex);
+                    }
+                    alphabet = characterClass(regex.substring(i + 1, close), regex);
+                    i = close + 1;
+                } else if (Character.isLetterOrDigit(c)) {
+                    alphabet = null;
+                    literal = c;
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("Unsupported construct '" + c + "' in " + regex);
+                }
+                int count = 1;
+                if (i < regex.length() && regex.charAt(i) == '{') {
+                    final int close = regex.indexOf('}', i);
+                    if (close < 0) {
+                        throw new IllegalArgumentException("Unclosed quantifier in " + regex);
+                    }
+                    count = Integer.parseInt(regex.substring(i + 1, close));
+                    i = close + 1;
+                }
+                for (int n = 0; n < count; n++) {
+                    alphabets.add(alphabet);
+                    literals.append(literal);
+                }
+            }
+            return new Layout(alphabets, literals, -1);
         }
-        StringBuilder sb = new StringBuilder();
-        while (sb.length() < length - inputString.length()) {
-            sb.append('0');
+
+        private static char[] characterClass(String ranges, String regex) {
+            final StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < ranges.length(); i++) {
+                if (i + 2 < ranges.length() && ranges.charAt(i + 1) == '-') {
+                    for (char c = ranges.charAt(i); c <= ranges.charAt(i + 2); c++) {
+                        sb.append(c);
+                    }
+                    i += 2;
+                } else if (Character.isLetterOrDigit(ranges.charAt(i))) {
+                    sb.append(ranges.charAt(i));
+                } else {
+                    throw new IllegalArgumentException("Unsupported character class [" + ranges + "] in " + regex);
+                }
+            }
+            return sb.toString().toCharArray();
         }
-        sb.append(inputString);
 
-        return sb.toString();
+        /**
+         * Compiles templates like {@code /4###-####-####-###L/}: '#' is a random digit,
+         * 'L' is the Luhn check digit, other characters are kept as is.
+         */
+        static Layout compileCreditCardTemplate(String template) {
+            final String trimmed = template.replace('\\', ' ').replace('/', ' ').trim();
+            if (trimmed.length() > MAX_LENGTH) {
+                throw new IllegalArgumentException("Credit card template is too long: " + template);
+            }
+            final List<char[]> alphabets = new ArrayList<>();
+            final StringBuilder literals = new StringBuilder();
+            int luhnPosition = -1;
+            for (int i = 0; i < trimmed.length(); i++) {
+                final char c = trimmed.charAt(i);
+                if (c == '#') {
+                    alphabets.add(DIGITS);
+                    literals.append('0');
+                } else {
+                    if (c == LUHN) {
+                        luhnPosition = i;
+                    }
+                    alphabets.add(null);
+                    literals.append(c);
+                }
+            }
+            return new Layout(alphabets, literals, luhnPosition);
+        }
+
+        void fill(RandomService random, char[] dest, int offset) {
+            fill(random, dest, offset, literals.length);
+        }
+
+        /**
+         * Fills the first {@code count} positions.
+         */
+        void fill(RandomService random, char[] dest, int offset, int count) {
+            for (int i = 0; i < count; i++) {
+                final char[] alphabet = alphabets[i];
+                dest[offset + i] = alphabet == null ? literals[i] : alphabet[random.nextInt(alphabet.length)];
+            }
+        }
+
+        int fillCreditCard(RandomService random, char[] dest, int offset) {
+            if (dest.length - offset < literals.length) {
+                throw new IndexOutOfBoundsException("Not enough space for a credit card number at offset " + offset);
+            }
+            fill(random, dest, offset);
+            if (luhnPosition >= 0) {
+                // every second digit is doubled starting from the rightmost one except the check digit itself
+                int sum = 0;
+                boolean doubled = true;
+                for (int i = offset + literals.length - 1; i >= offset; i--) {
+                    final char c = dest[i];
+                    if (c < '0' || c > '9') {
+                        continue;
+                    }
+                    final int digit = c - '0';
+                    sum += doubled ? (digit > 4 ? 2 * digit - 9 : 2 * digit) : digit;
+                    doubled = !doubled;
+                }
+                dest[offset + luhnPosition] = (char) ('0' + (10 - sum % 10) % 10);
+            }
+            return offset + literals.length;
+        }
+
+        /**
+         * @return the number of rightmost positions whose combinations fit into a {@link Permutation}
+         */
+        int uniquePositions() {
+            long combinations = 1;
+            int positions = 0;
+            for (int i = alphabets.length - 1; i >= 0; i--) {
+                final int radix = alphabets[i] == null ? 1 : alphabets[i].length;
+                if (combinations > Permutation.MAX_SIZE / radix) {
+                    break;
+                }
+                combinations *= radix;
+                positions++;
+            }
+            return positions;
+        }
+
+        long combinations(int rightmostPositions) {
+            long combinations = 1;
+            for (int i = alphabets.length - rightmostPositions; i < alphabets.length; i++) {
+                combinations *= alphabets[i] == null ? 1 : alphabets[i].length;
+            }
+            return combinations;
+        }
+
+        /**
+         * Writes {@code value} as a mixed radix number into the positions from {@code from} to the end.
+         */
+        void encode(long value, char[] dest, int offset, int from) {
+            long rest = value;
+            for (int i = alphabets.length - 1; i >= from; i--) {
+                final char[] alphabet = alphabets[i];
+                if (alphabet == null) {
+                    dest[offset + i] = literals[i];
+                } else {
+                    dest[offset + i] = alphabet[(int) (rest % alphabet.length)];
+                    rest /= alphabet.length;
+                }
+            }
+        }
+    }
+
+    private static Map<String, Layout> compileLayouts(Map<String, String> patterns) {
+        final Map<String, Layout> layouts = new HashMap<>();
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            layouts.put(entry.getKey(), Layout.compileRegex(entry.getValue()));
+        }
+        return layouts;
     }
 
     private static Map<String, String> createCountryCodeToBasicBankAccountNumberPatternMap() {
@@ -175,7 +484,7 @@ private static Map<String, String> createCountryCodeToBasicBankAccountNumberPatt
         ibanFormats.put("RO", "[A-Z]{4}[0-9A-Za-z]{16}");
         ibanFormats.put("RS", "\\d{3}\\d{13}\\d{2}");
         ibanFormats.put("SA", "\\d{2}[0-9A-Za-z]{18}");
-        ibanFormats.put("SC", "[A-Z]{4}d{2}\\d{2}\\d{16}[A-Z]{3}");
+        ibanFormats.put("SC", "[A-Z]{4}\\d{2}\\d{2}\\d{16}[A-Z]{3}");
         ibanFormats.put("SE", "\\d{3}\\d{16}\\d{1}");
         ibanFormats.put("SI", "\\d{5}\\d{8}\\d{2}");
         ibanFormats.put("SK", "\\d{4}\\d{6}\\d{10}");
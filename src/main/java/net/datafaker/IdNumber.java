@@ -6,6 +6,9 @@
 import net.datafaker.idnumbers.EnIdNumber;
 import net.datafaker.idnumbers.EnZAIdNumber;
 import net.datafaker.idnumbers.EsMXIdNumber;
+import net.datafaker.idnumbers.IdNumberFormat;
+import net.datafaker.idnumbers.IdNumberFormats;
+import net.datafaker.idnumbers.IdNumberGenerator;
 import net.datafaker.idnumbers.NricNumber;
 import net.datafaker.idnumbers.NricNumber.Type;
 import net.datafaker.idnumbers.PeselNumber;
@@ -145,4 +148,15 @@ public String peselNumber() {
     public String peselNumber(LocalDate birthDate, Gender gender) {
         return new PeselNumber(faker).get(birthDate, gender);
     }
+
+    /**
+     * Creates a generator of identifiers in bulk, e.g.
+     * {@code generator(IdNumberFormats.cpf(true), true).generate(1_000_000, sink)}.
+     *
+     * @param format one of the {@link IdNumberFormats}
+     * @param unique if true the generator never returns the same identifier twice
+     */
+    public IdNumberGenerator generator(IdNumberFormat format, boolean unique) {
+        return new IdNumberGenerator(format, faker.random(), unique);
+    }
 }
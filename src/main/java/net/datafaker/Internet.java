@@ -1,21 +1,26 @@
 package net.datafaker;
 
+import net.datafaker.service.BoundedCache;
 import net.datafaker.service.FakerIDN;
 import net.datafaker.service.RandomService;
+import net.datafaker.service.UuidGenerator;
 
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.text.Normalizer;
-import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 import java.util.regex.Pattern;
 
 public class Internet {
     private static final Pattern SINGLE_QUOTE = Pattern.compile("'");
     private static final Pattern COLON = Pattern.compile(":");
+    private static final int MAX_CACHED_VALUES = 16_384;
+    private static final BoundedCache<String, String> ACCENT_FREE = new BoundedCache<>("accentFree", MAX_CACHED_VALUES);
+    private static final BoundedCache<String, String> DOMAIN_WORDS = new BoundedCache<>("domainWords", MAX_CACHED_VALUES);
+    private static final BoundedCache<String, String> WITHOUT_QUOTES =
+        new BoundedCache<>("withoutQuotes", MAX_CACHED_VALUES);
     private final Faker faker;
 
     protected Internet(Faker faker) {
@@ -45,19 +50,55 @@ private String emailAddress(String localPart, String domain) {
     public static final Pattern DIACRITICS_AND_FRIENDS
         = Pattern.compile("[\\p{InCombiningDiacriticalMarks}\\p{IsLm}\\p{IsSk}]+");
 
-    private String stripAccents(String input) {
+    private static String stripAccents(String input) {
+        if (isPlainAscii(input)) {
+            return input;
+        }
+        // local parts are usually dot separated names, strip accents name by name
+        // so the memo stays as small as the name dictionaries.
+        // This is exact since a dot is never decomposed nor combined with its neighbours.
+        final int dot = input.indexOf('.');
+        if (dot < 0) {
+            return ACCENT_FREE.get(input, Internet::stripAccentsUncached);
+        }
+        final StringBuilder sb = new StringBuilder(input.length());
+        int from = 0;
+        for (int to = dot; to >= 0; from = to + 1, to = input.indexOf('.', from)) {
+            sb.append(ACCENT_FREE.get(input.substring(from, to), Internet::stripAccentsUncached)).append('.');
+        }
+        return sb.append(ACCENT_FREE.get(input.substring(from), Internet::stripAccentsUncached)).toString();
+    }
+
+    private static String stripAccentsUncached(String input) {
         // strip accents from input
         String str = Normalizer.normalize(input, Normalizer.Form.NFD);
         str = DIACRITICS_AND_FRIENDS.matcher(str).replaceAll("");
         return str;
     }
 
+    /**
+     * @return true if the input contains neither decomposable characters nor modifier symbols
+     */
+    private static boolean isPlainAscii(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c >= 0x80 || c == '^' || c == '`') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public String domainName() {
         return domainWord() + "." + domainSuffix();
     }
 
     public String domainWord() {
-        return FakerIDN.toASCII(SINGLE_QUOTE.matcher(faker.name().lastName().toLowerCase()).replaceAll(""));
+        return DOMAIN_WORDS.get(faker.name().lastName(), lastName -> FakerIDN.toASCII(withoutQuotes(lastName)));
+    }
+
+    private static String withoutQuotes(String name) {
+        return SINGLE_QUOTE.matcher(name.toLowerCase()).replaceAll("");
     }
 
     public String domainSuffix() {
@@ -69,7 +110,7 @@ public String url() {
             "www",
             ".",
             FakerIDN.toASCII(
-                SINGLE_QUOTE.matcher(faker.name().firstName().toLowerCase()).replaceAll("") +
+                WITHOUT_QUOTES.get(faker.name().firstName(), Internet::withoutQuotes) +
                     "-" +
                     domainWord()
             ),
@@ -164,8 +205,8 @@ public String macAddress(String prefix) {
             if (out.length() > 0) {
                 out.append(':');
             }
-            out.append(Integer.toHexString(faker.random().nextInt(16)));
-            out.append(Integer.toHexString(faker.random().nextInt(16)));
+            out.append(Character.forDigit(faker.random().nextInt(16), 16));
+            out.append(Character.forDigit(faker.random().nextInt(16), 16));
         }
         return out.toString();
     }
@@ -183,11 +224,7 @@ public String macAddress() {
      * @return a correctly formatted IPv4 address.
      */
     public String ipV4Address() {
-        try {
-            return getIpV4Address().getHostAddress();
-        } catch (UnknownHostException e) {
-            return "127.0.0.1";
-        }
+        return Network.ipV4ToString(Network.ipV4(faker.random()));
     }
 
     /**
@@ -196,79 +233,35 @@ public String ipV4Address() {
      * @return an IPv4 address.
      */
     public InetAddress getIpV4Address() throws UnknownHostException {
-        return Inet4Address.getByAddress(new byte[]{
-            (byte) (faker.random().nextInt(254) + 2),
-            (byte) (faker.random().nextInt(254) + 2),
-            (byte) (faker.random().nextInt(254) + 2),
-            (byte) (faker.random().nextInt(254) + 2)});
+        return Inet4Address.getByAddress(Network.toBytes(Network.ipV4(faker.random())));
     }
 
     /**
      * @return a valid private IPV4 address in dot notation
      */
     public String privateIpV4Address() {
-        try {
-            return getPrivateIpV4Address().getHostAddress();
-        } catch (UnknownHostException e) {
-            return "127.0.0.1";
-        }
+        return Network.ipV4ToString(Network.privateIpV4(faker.random()));
     }
 
     /**
      * @return a private IPV4 address
      */
     public InetAddress getPrivateIpV4Address() throws UnknownHostException {
-        final Byte[] PRIVATE_FIRST_OCTET = {10, 127, (byte) 169, (byte) 192, (byte) 172};
-        final Byte[] PRIVATE_SECOND_OCTET_172 = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-
-        final RandomService r = faker.random();
-        byte first = random(PRIVATE_FIRST_OCTET),
-            second = (byte) r.nextInt(256),
-            third = (byte) r.nextInt(256),
-            fourth = (byte) r.nextInt(256);
-
-        switch (first) {
-            case (byte) 172:
-                second = random(PRIVATE_SECOND_OCTET_172);
-                break;
-            case (byte) 192:
-                second = (byte) 168;
-                break;
-            case (byte) 169:
-                second = (byte) 254;
-                break;
-        }
-        return Inet4Address.getByAddress(new byte[]{first, second, third, fourth});
+        return Inet4Address.getByAddress(Network.toBytes(Network.privateIpV4(faker.random())));
     }
 
     /**
      * @return a valid public IPV4 address in dot notation
      */
     public String publicIpV4Address() {
-        try {
-            return getPublicIpV4Address().getHostAddress();
-        } catch (UnknownHostException e) {
-            return "127.0.0.1";
-        }
+        return Network.ipV4ToString(Network.publicIpV4(faker.random()));
     }
 
     /**
      * @return a valid public IPV4 address
      */
     public InetAddress getPublicIpV4Address() throws UnknownHostException {
-        final RandomService r = faker.random();
-
-        final byte[] PRIVATE_FIRST_OCTET = {10, 127, (byte)169, (byte)192, (byte)172};
-
-        byte first = (byte) r.nextInt(256),
-            second = (byte) r.nextInt(256),
-            third = (byte) r.nextInt(256),
-            fourth = (byte) r.nextInt(256);
-
-        while (Arrays.binarySearch(PRIVATE_FIRST_OCTET, first) > 0) {
-            first = (byte) r.nextInt(256);
-        }
-        return Inet4Address.getByAddress(new byte[]{first, second, third, fourth});
+        return Inet4Address.getByAddress(Network.toBytes(Network.publicIpV4(faker.random())));
     }
 
     /**
@@ -286,11 +279,8 @@ public String ipV4Cidr() {
      * @return a correctly formatted IPv6 address.
      */
     public String ipV6Address() {
-        try {
-            return getIpV6Address().getHostAddress();
-        } catch (UnknownHostException e) {
-            return "0:0:0:0:0:0:0:1";
-        }
+        final RandomService random = faker.random();
+        return Network.ipV6ToString(random.nextLong(), random.nextLong());
     }
 
     /**
@@ -299,17 +289,8 @@ public String ipV6Address() {
      * @return a IPV6 address.
      */
     public InetAddress getIpV6Address() throws UnknownHostException {
-        final StringBuilder tmp = new StringBuilder();
-        for (int i = 0; i < 8; i++) {
-            if (i > 0) {
-                tmp.append(":");
-            }
-            tmp.append(Integer.toHexString(faker.random().nextInt(16)));
-            tmp.append(Integer.toHexString(faker.random().nextInt(16)));
-            tmp.append(Integer.toHexString(faker.random().nextInt(16)));
-            tmp.append(Integer.toHexString(faker.random().nextInt(16)));
-        }
-        return Inet6Address.getByName(tmp.toString());
+        final RandomService random = faker.random();
+        return Inet6Address.getByAddress(Network.toBytes(random.nextLong(), random.nextLong()));
     }
 
     /**
@@ -357,11 +338,16 @@ public String slug(List<String> wordsOrNull, String glueOrNull) {
      * @return A UUID as String.
      */
     public String uuid() {
-        return UUID.randomUUID().toString();
+        return UuidGenerator.v4String(faker.random());
     }
 
-    private <T> T random(T[] src) {
-        return src[faker.random().nextInt(src.length)];
+    /**
+     * Returns a time-ordered UUID (type 7) as String, its timestamp is the current time.
+     *
+     * @return A UUID as String.
+     */
+    public String uuidv7() {
+        return UuidGenerator.v7(faker.random(), System.currentTimeMillis()).toString();
     }
 
     public String userAgent(UserAgent userAgent) {
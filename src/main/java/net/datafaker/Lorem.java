@@ -1,11 +1,18 @@
 package net.datafaker;
 
+import net.datafaker.service.RandomService;
+import net.datafaker.service.WeightedList;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
 public class Lorem {
     private final Faker faker;
+    private volatile List<?> wordTable;
 
     protected Lorem(Faker faker) {
         this.faker = faker;
@@ -67,16 +74,12 @@ public String characters(int fixedNumberOfCharacters, boolean includeUppercase,
             return "";
         }
         char[] buffer = new char[fixedNumberOfCharacters];
+        final RandomService random = faker.random();
+        final char[] alphabet = includeDigit ? characters : letters;
         for (int i = 0; i < buffer.length; i++) {
-            char randomCharacter;
-
-            if (includeDigit) {
-                randomCharacter = characters[faker.random().nextInt(characters.length)];
-            } else {
-                randomCharacter = letters[faker.random().nextInt(letters.length)];
-            }
+            char randomCharacter = alphabet[random.nextInt(alphabet.length)];
 
-            if (includeUppercase && faker.bool().bool()) {
+            if (includeUppercase && random.nextBoolean()) {
                 randomCharacter = Character.toUpperCase(randomCharacter);
             }
             buffer[i] = randomCharacter;
@@ -91,31 +94,24 @@ public String characters(int fixedNumberOfCharacters,
             return "";
 
         char[] buffer = new char[fixedNumberOfCharacters];
-        char[] special = new char[]{'!', '@', '#', '$', '%', '^', '&', '*'};
-        char[] number = new char[]{'0', '1', '2', '3', '4', '5', '6', '7', '8', '9'};
-        char[] all = new char[special.length + characters.length];
-        System.arraycopy(special, 0, all, 0, special.length);
-        System.arraycopy(characters, 0, all, special.length, characters.length);
-        char[] specialAndLetter = new char[special.length + letters.length];
-        System.arraycopy(special, 0, specialAndLetter, 0, special.length);
-        System.arraycopy(letters, 0, specialAndLetter, special.length, letters.length);
+        final RandomService random = faker.random();
 
         int cnt = 0;
         if (includeUppercase) {
-            char theUpper = Character.toUpperCase(letters[faker.random().nextInt(letters.length)]);
+            char theUpper = Character.toUpperCase(letters[random.nextInt(letters.length)]);
             if (cnt > fixedNumberOfCharacters - 1) return "";
             buffer[cnt++] = theUpper;
 
         }
 
         if (includeSpecial) {
-            char theSpecial = special[faker.random().nextInt(special.length)];
+            char theSpecial = special[random.nextInt(special.length)];
             if (cnt > fixedNumberOfCharacters - 1) return "";
             buffer[cnt++] = theSpecial;
         }
 
         if (includeDigit) {
-            char theNum = number[faker.random().nextInt(number.length)];
+            char theNum = number[random.nextInt(number.length)];
             if (cnt > fixedNumberOfCharacters - 1) return "";
             buffer[cnt++] = theNum;
         }
@@ -125,16 +121,16 @@ public String characters(int fixedNumberOfCharacters,
             char randomCharacter;
 
             if (includeSpecial && !includeDigit) {
-                randomCharacter = specialAndLetter[faker.random().nextInt(specialAndLetter.length)];
+                randomCharacter = specialAndLetter[random.nextInt(specialAndLetter.length)];
             } else if (!includeSpecial && includeDigit) {
-                randomCharacter = characters[faker.random().nextInt(characters.length)];
+                randomCharacter = characters[random.nextInt(characters.length)];
             } else if (!includeSpecial && !includeDigit) {
-                randomCharacter = letters[faker.random().nextInt(letters.length)];
+                randomCharacter = letters[random.nextInt(letters.length)];
             } else {                                            //includeSpecial && includeDigit
-                randomCharacter = all[faker.random().nextInt(all.length)];
+                randomCharacter = all[random.nextInt(all.length)];
             }
 
-            if (includeUppercase && faker.bool().bool()) {
+            if (includeUppercase && random.nextBoolean()) {
                 randomCharacter = Character.toUpperCase(randomCharacter);
             }
             buffer[i] = randomCharacter;
@@ -145,9 +141,10 @@ public String characters(int fixedNumberOfCharacters,
     }
 
     private void shuffle(char[] buffer) {
+        final RandomService random = faker.random();
         int length = buffer.length;
         for (int i = length; i > 0; i--) {
-            int randInd = faker.random().nextInt(i);
+            int randInd = random.nextInt(i);
             swap(buffer, randInd, i - 1);
         }
     }
@@ -237,6 +234,178 @@ public List<String> paragraphs(int paragraphCount) {
         return paragraphs;
     }
 
+    /**
+     * Appends {@code count} space separated words to {@code out}.
+     * Same as {@code String.join(" ", words(count))} without the intermediate list and strings.
+     */
+    public void words(Appendable out, int count) throws IOException {
+        new TextWriter(out, Long.MAX_VALUE, false).words(count, false);
+    }
+
+    /**
+     * Appends a sentence to {@code out}, see {@link #sentence(int, int)}.
+     */
+    public void sentence(Appendable out, int wordCount, int randomWordsToAdd) throws IOException {
+        new TextWriter(out, Long.MAX_VALUE, false).sentence(wordCount, randomWordsToAdd);
+    }
+
+    /**
+     * Appends a paragraph to {@code out}, see {@link #paragraph(int)}.
+     */
+    public void paragraph(Appendable out, int sentenceCount) throws IOException {
+        new TextWriter(out, Long.MAX_VALUE, false).paragraph(sentenceCount);
+    }
+
+    /**
+     * Appends newline separated paragraphs like {@link #paragraph()} to {@code out}
+     * until exactly {@code length} characters are written, the last word may be cut.
+     * <p>
+     * Nothing is buffered, words are taken from a table which is read once per {@link Lorem} instance,
+     * so gigabytes of text can be streamed to a {@link java.io.Writer} with no garbage per word.
+     *
+     * @param length number of characters to write
+     */
+    public void paragraphs(Appendable out, long length) throws IOException {
+        new TextWriter(out, length, false).paragraphs();
+    }
+
+    /**
+     * Same as {@link #paragraphs(Appendable, long)} but the budget is the number of bytes
+     * of the text encoded in UTF-8, a character is never cut in the middle,
+     * so the text may be up to 3 bytes shorter than the budget.
+     *
+     * @param bytes the size of the UTF-8 encoded text
+     */
+    public void paragraphsUtf8(Appendable out, long bytes) throws IOException {
+        new TextWriter(out, bytes, true).paragraphs();
+    }
+
+    private String nextWord() {
+        List<?> table = wordTable;
+        if (table == null) {
+            final Object words = faker.fakeValuesService().fetchObject("lorem.words");
+            table = words instanceof List && !((List<?>) words).isEmpty() ? (List<?>) words : Collections.emptyList();
+            wordTable = table;
+        }
+        if (table.isEmpty()) {
+            return word();
+        }
+        return table instanceof WeightedList
+            ? String.valueOf(((WeightedList<?>) table).sample(faker.random()))
+            : String.valueOf(table.get(faker.random().nextInt(table.size())));
+    }
+
+    /**
+     * Writes the same text as {@link #sentence(int, int)} and {@link #paragraph(int)}
+     * straight to an {@link Appendable}, stopping as soon as the budget is exhausted.
+     */
+    private class TextWriter {
+        private final Appendable out;
+        private final boolean utf8;
+        private long remaining;
+
+        TextWriter(Appendable out, long budget, boolean utf8) {
+            this.out = out;
+            this.remaining = budget;
+            this.utf8 = utf8;
+        }
+
+        void paragraphs() throws IOException {
+            if (remaining <= 0) {
+                return;
+            }
+            paragraph(3);
+            while (remaining > 0 && append('\n')) {
+                paragraph(3);
+            }
+        }
+
+        boolean paragraph(int sentenceCount) throws IOException {
+            final int sentences = sentenceCount + faker.random().nextInt(3);
+            for (int i = 0; i < sentences; i++) {
+                if (i > 0 && !append(' ')) {
+                    return false;
+                }
+                if (!sentence(3, 6)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean sentence(int wordCount, int randomWordsToAdd) throws IOException {
+            final int numberOfWordsToAdd = randomWordsToAdd == 0 ? 0 : faker.random().nextInt(randomWordsToAdd);
+            return words(wordCount + numberOfWordsToAdd, true) && append('.');
+        }
+
+        boolean words(int count, boolean capitalize) throws IOException {
+            for (int i = 0; i < count; i++) {
+                if (i > 0 && !append(' ')) {
+                    return false;
+                }
+                final String word = nextWord();
+                if (word.isEmpty()) {
+                    continue;
+                }
+                if (i == 0 && capitalize) {
+                    if (!append(Character.toUpperCase(word.charAt(0))) || !append(word, 1)) {
+                        return false;
+                    }
+                } else if (!append(word, 0)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean append(char c) throws IOException {
+            final int cost = cost(c);
+            if (cost > remaining) {
+                remaining = 0;
+                return false;
+            }
+            out.append(c);
+            remaining -= cost;
+            return true;
+        }
+
+        private boolean append(String s, int from) throws IOException {
+            if (!utf8 && s.length() - from <= remaining) {
+                out.append(s, from, s.length());
+                remaining -= s.length() - from;
+                return true;
+            }
+            for (int i = from; i < s.length(); i++) {
+                final char c = s.charAt(i);
+                if (Character.isHighSurrogate(c) && i + 1 < s.length()) {
+                    // keep surrogate pairs together, 4 bytes in UTF-8
+                    if (remaining < 2 * cost(c)) {
+                        remaining = 0;
+                        return false;
+                    }
+                    append(c);
+                    append(s.charAt(++i));
+                } else if (!append(c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * A surrogate pair costs 4 bytes in UTF-8, i.e. 2 per surrogate.
+         */
+        private int cost(char c) {
+            if (!utf8 || c < 0x80) {
+                return 1;
+            }
+            if (c < 0x800 || Character.isSurrogate(c)) {
+                return 2;
+            }
+            return 3;
+        }
+    }
+
     /**
      * Create a string with a fixed size. Can be useful for testing
      * validator based on length string for example
@@ -292,5 +461,15 @@ public String maxLengthSentence(final int fixedLength) {
 
     private static final char[] letters;
     private static final char[] characters;
+    private static final char[] special = {'!', '@', '#', '$', '%', '^', '&', '*'};
+    private static final char[] number = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9'};
+    private static final char[] all = concat(special, characters);
+    private static final char[] specialAndLetter = concat(special, letters);
+
+    private static char[] concat(char[] first, char[] second) {
+        final char[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
 
 }
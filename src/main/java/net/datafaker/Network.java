@@ -0,0 +1,481 @@
+package net.datafaker;
+
+import net.datafaker.distributions.AliasTable;
+import net.datafaker.service.Permutation;
+import net.datafaker.service.RandomService;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Primitive network address generation for bulk data, e.g. flow logs with hundreds of millions of rows.
+ * <p>
+ * Addresses are never boxed nor wrapped into {@link java.net.InetAddress}:
+ * an IPv4 address is an {@code int} with the first octet in the highest byte,
+ * an IPv6 address is a pair of {@code long}s (high and low 64 bits)
+ * and a MAC address is the lower 48 bits of a {@code long}.
+ * The {@code format} methods write the usual text representations into a caller supplied
+ * {@code char[]} and return the offset right after the written characters,
+ * so one buffer can be reused for a whole row.
+ */
+public final class Network {
+    /**
+     * Maximal length of a formatted IPv4 address, e.g. {@code 255.255.255.255}.
+     */
+    public static final int MAX_IPV4_LENGTH = 15;
+    /**
+     * Maximal length of a formatted IPv6 address, e.g. {@code ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff}.
+     */
+    public static final int MAX_IPV6_LENGTH = 39;
+    /**
+     * Length of a formatted MAC address, e.g. {@code 0a:1b:2c:3d:4e:5f}.
+     */
+    public static final int MAC_LENGTH = 17;
+
+    public static final byte ICMP = 1;
+    public static final byte TCP = 6;
+    public static final byte UDP = 17;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int[] PRIVATE_FIRST_OCTET = {10, 127, 169, 192, 172};
+    private static final Cidr[] PRIVATE_RANGES = {
+        Cidr.parse("10.0.0.0/8"),
+        Cidr.parse("127.0.0.0/8"),
+        Cidr.parse("169.254.0.0/16"),
+        Cidr.parse("172.16.0.0/12"),
+        Cidr.parse("192.168.0.0/16")
+    };
+
+    private Network() {
+    }
+
+    /**
+     * @return an IPv4 address where every octet is between 2 and 255
+     */
+    public static int ipV4(RandomService random) {
+        return (random.nextInt(254) + 2) << 24
+            | (random.nextInt(254) + 2) << 16
+            | (random.nextInt(254) + 2) << 8
+            | (random.nextInt(254) + 2);
+    }
+
+    /**
+     * @return an address from one of 10.0.0.0/8, 127.0.0.0/8, 169.254.0.0/16, 172.16.0.0/12 or 192.168.0.0/16
+     */
+    public static int privateIpV4(RandomService random) {
+        final int first = PRIVATE_FIRST_OCTET[random.nextInt(PRIVATE_FIRST_OCTET.length)];
+        int second = random.nextInt(256);
+        final int third = random.nextInt(256);
+        final int fourth = random.nextInt(256);
+        switch (first) {
+            case 172:
+                second = 16 + random.nextInt(16);
+                break;
+            case 192:
+                second = 168;
+                break;
+            case 169:
+                second = 254;
+                break;
+            default:
+                break;
+        }
+        return first << 24 | second << 16 | third << 8 | fourth;
+    }
+
+    /**
+     * @return an address outside of the ranges used by {@link #privateIpV4(RandomService)}
+     */
+    public static int publicIpV4(RandomService random) {
+        int address;
+        do {
+            address = random.nextInt();
+        } while (isPrivate(address));
+        return address;
+    }
+
+    /**
+     * @return true if the address belongs to one of the ranges used by {@link #privateIpV4(RandomService)}
+     */
+    public static boolean isPrivate(int address) {
+        for (Cidr range : PRIVATE_RANGES) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills {@code dest} with pairs of random IPv6 addresses: {@code dest[2 * i]} holds the high
+     * and {@code dest[2 * i + 1]} the low 64 bits of the i-th address.
+     *
+     * @param dest array with an even length
+     */
+    public static void ipV6(RandomService random, long[] dest) {
+        if ((dest.length & 1) != 0) {
+            throw new IllegalArgumentException("Array length should be even but was " + dest.length);
+        }
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * @return a random MAC address in the lower 48 bits
+     */
+    public static long mac(RandomService random) {
+        return random.nextLong() & 0xFFFFFFFFFFFFL;
+    }
+
+    /**
+     * Writes an IPv4 address in dot separated octets.
+     *
+     * @return the offset right after the address, at most {@link #MAX_IPV4_LENGTH} characters are written
+     */
+    public static int formatIpV4(int address, char[] dest, int offset) {
+        int pos = offset;
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            final int octet = (address >>> shift) & 0xFF;
+            if (octet >= 100) {
+                dest[pos++] = (char) ('0' + octet / 100);
+            }
+            if (octet >= 10) {
+                dest[pos++] = (char) ('0' + octet / 10 % 10);
+            }
+            dest[pos++] = (char) ('0' + octet % 10);
+            if (shift > 0) {
+                dest[pos++] = '.';
+            }
+        }
+        return pos;
+    }
+
+    public static String ipV4ToString(int address) {
+        final char[] buffer = new char[MAX_IPV4_LENGTH];
+        return new String(buffer, 0, formatIpV4(address, buffer, 0));
+    }
+
+    /**
+     * Writes an IPv6 address as eight colon separated groups without leading zeros,
+     * the same way as {@link java.net.Inet6Address#getHostAddress()}.
+     *
+     * @return the offset right after the address, at most {@link #MAX_IPV6_LENGTH} characters are written
+     */
+    public static int formatIpV6(long high, long low, char[] dest, int offset) {
+        int pos = formatGroups(high, dest, offset);
+        dest[pos++] = ':';
+        return formatGroups(low, dest, pos);
+    }
+
+    public static String ipV6ToString(long high, long low) {
+        final char[] buffer = new char[MAX_IPV6_LENGTH];
+        return new String(buffer, 0, formatIpV6(high, low, buffer, 0));
+    }
+
+    private static int formatGroups(long bits, char[] dest, int offset) {
+        int pos = offset;
+        for (int shift = 48; shift >= 0; shift -= 16) {
+            final int group = (int) (bits >>> shift) & 0xFFFF;
+            boolean started = false;
+            for (int digit = 12; digit >= 0; digit -= 4) {
+                final int value = (group >>> digit) & 0xF;
+                if (started || value != 0 || digit == 0) {
+                    dest[pos++] = HEX[value];
+                    started = true;
+                }
+            }
+            if (shift > 0) {
+                dest[pos++] = ':';
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Writes the lower 48 bits of {@code mac} as six colon separated lower case hex octets.
+     *
+     * @return the offset right after the address, i.e. {@code offset + MAC_LENGTH}
+     */
+    public static int formatMac(long mac, char[] dest, int offset) {
+        int pos = offset;
+        for (int shift = 40; shift >= 0; shift -= 8) {
+            dest[pos++] = HEX[(int) (mac >>> (shift + 4)) & 0xF];
+            dest[pos++] = HEX[(int) (mac >>> shift) & 0xF];
+            if (shift > 0) {
+                dest[pos++] = ':';
+            }
+        }
+        return pos;
+    }
+
+    static byte[] toBytes(int address) {
+        return new byte[]{(byte) (address >>> 24), (byte) (address >>> 16), (byte) (address >>> 8), (byte) address};
+    }
+
+    static byte[] toBytes(long high, long low) {
+        final byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - 8 * i));
+            bytes[i + 8] = (byte) (low >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    /**
+     * An IPv4 address block such as {@code 10.0.0.0/16}.
+     */
+    public static final class Cidr {
+        private final int network;
+        private final int prefixLength;
+
+        private Cidr(int network, int prefixLength) {
+            this.network = network;
+            this.prefixLength = prefixLength;
+        }
+
+        /**
+         * @param address      any address of the block, the host bits are ignored
+         * @param prefixLength from 0 to 32
+         */
+        public static Cidr of(int address, int prefixLength) {
+            if (prefixLength < 0 || prefixLength > 32) {
+                throw new IllegalArgumentException("Prefix length should be between 0 and 32 but was " + prefixLength);
+            }
+            return new Cidr(address & mask(prefixLength), prefixLength);
+        }
+
+        /**
+         * @param cidr block in the usual notation, e.g. {@code 192.168.0.0/24}
+         */
+        public static Cidr parse(String cidr) {
+            final int slash = cidr.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException("Missing prefix length in " + cidr);
+            }
+            final String[] octets = cidr.substring(0, slash).split("\\.");
+            if (octets.length != 4) {
+                throw new IllegalArgumentException("Invalid IPv4 address in " + cidr);
+            }
+            int address = 0;
+            try {
+                for (String octet : octets) {
+                    final int value = Integer.parseInt(octet);
+                    if (value < 0 || value > 255) {
+                        throw new IllegalArgumentException("Invalid octet " + octet + " in " + cidr);
+                    }
+                    address = address << 8 | value;
+                }
+                return of(address, Integer.parseInt(cidr.substring(slash + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid CIDR " + cidr, e);
+            }
+        }
+
+        private static int mask(int prefixLength) {
+            return prefixLength == 0 ? 0 : -1 << (32 - prefixLength);
+        }
+
+        public int getNetwork() {
+            return network;
+        }
+
+        public int getPrefixLength() {
+            return prefixLength;
+        }
+
+        /**
+         * @return number of addresses in the block, including the network and the broadcast ones
+         */
+        public long size() {
+            return 1L << (32 - prefixLength);
+        }
+
+        public boolean contains(int address) {
+            return (address & mask(prefixLength)) == network;
+        }
+
+        /**
+         * @param index from 0 (inclusive) to {@link #size()} (exclusive)
+         */
+        public int address(long index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " is out of range [0, " + size() + ")");
+            }
+            return network | (int) index;
+        }
+
+        /**
+         * @return a random address of the block
+         */
+        public int random(RandomService random) {
+            return network | (random.nextInt() & ~mask(prefixLength));
+        }
+
+        /**
+         * Returns every address of the block exactly once in random order.
+         * It takes constant memory whatever the size of the block, see {@link Permutation}.
+         */
+        public PrimitiveIterator.OfInt uniqueAddresses(RandomService random) {
+            final Permutation permutation = new Permutation(size(), random);
+            return new PrimitiveIterator.OfInt() {
+                private long index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < permutation.size();
+                }
+
+                @Override
+                public int nextInt() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException("All " + permutation.size() + " addresses of " + Cidr.this + " are used");
+                    }
+                    return network | (int) permutation.apply(index++);
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Cidr)) return false;
+            final Cidr cidr = (Cidr) o;
+            return network == cidr.network && prefixLength == cidr.prefixLength;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * network + prefixLength;
+        }
+
+        @Override
+        public String toString() {
+            return ipV4ToString(network) + "/" + prefixLength;
+        }
+    }
+
+    /**
+     * A batch of flow log records stored column by column.
+     * The arrays are exposed as is so they can be handed to a columnar writer without copying.
+     */
+    public static final class Flows {
+        private final int[] sourceAddresses;
+        private final int[] destinationAddresses;
+        private final int[] sourcePorts;
+        private final int[] destinationPorts;
+        private final byte[] protocols;
+
+        public Flows(int size) {
+            this.sourceAddresses = new int[size];
+            this.destinationAddresses = new int[size];
+            this.sourcePorts = new int[size];
+            this.destinationPorts = new int[size];
+            this.protocols = new byte[size];
+        }
+
+        public int size() {
+            return protocols.length;
+        }
+
+        public int[] getSourceAddresses() {
+            return sourceAddresses;
+        }
+
+        public int[] getDestinationAddresses() {
+            return destinationAddresses;
+        }
+
+        public int[] getSourcePorts() {
+            return sourcePorts;
+        }
+
+        public int[] getDestinationPorts() {
+            return destinationPorts;
+        }
+
+        /**
+         * @return IANA protocol numbers, see {@link #TCP}, {@link #UDP} and {@link #ICMP}
+         */
+        public byte[] getProtocols() {
+            return protocols;
+        }
+    }
+
+    /**
+     * Generates flow log records from clients of one address block to servers of another one.
+     * Destination ports follow a typical traffic mix (mostly HTTPS, HTTP and DNS),
+     * source ports are ephemeral ones and ICMP flows have both ports set to 0.
+     */
+    public static final class FlowGenerator {
+        private static final int[] SERVICE_PORTS = {443, 80, 53, 22, 123, 8080, 3306, 5432, 25, 0};
+        private static final byte[] SERVICE_PROTOCOLS = {TCP, TCP, UDP, TCP, UDP, TCP, TCP, TCP, TCP, ICMP};
+        private static final double[] SERVICE_WEIGHTS = {45, 15, 15, 5, 3, 5, 3, 3, 2, 4};
+        private static final AliasTable SERVICES = new AliasTable(SERVICE_WEIGHTS);
+        private static final int FIRST_EPHEMERAL_PORT = 49152;
+        private static final int EPHEMERAL_PORTS = 65536 - FIRST_EPHEMERAL_PORT;
+
+        private final RandomService random;
+        private final Cidr sources;
+        private final Cidr destinations;
+
+        private FlowGenerator(Builder builder) {
+            this.random = builder.random;
+            this.sources = builder.sources;
+            this.destinations = builder.destinations;
+        }
+
+        /**
+         * Overwrites every record of the batch.
+         */
+        public void fill(Flows flows) {
+            final int[] sourceAddresses = flows.sourceAddresses;
+            final int[] destinationAddresses = flows.destinationAddresses;
+            final int[] sourcePorts = flows.sourcePorts;
+            final int[] destinationPorts = flows.destinationPorts;
+            final byte[] protocols = flows.protocols;
+            for (int i = 0; i < protocols.length; i++) {
+                final int service = SERVICES.sample(random);
+                sourceAddresses[i] = sources.random(random);
+                destinationAddresses[i] = destinations.random(random);
+                protocols[i] = SERVICE_PROTOCOLS[service];
+                destinationPorts[i] = SERVICE_PORTS[service];
+                sourcePorts[i] = protocols[i] == ICMP ? 0 : FIRST_EPHEMERAL_PORT + random.nextInt(EPHEMERAL_PORTS);
+            }
+        }
+
+        public static class Builder {
+            private RandomService random = new RandomService();
+            private Cidr sources = Cidr.parse("10.0.0.0/16");
+            private Cidr destinations = Cidr.parse("0.0.0.0/0");
+
+            public Builder random(RandomService random) {
+                this.random = random;
+                return this;
+            }
+
+            /**
+             * @param sources block the clients belong to, 10.0.0.0/16 by default
+             */
+            public Builder sources(Cidr sources) {
+                this.sources = sources;
+                return this;
+            }
+
+            /**
+             * @param destinations block the servers belong to, the whole address space by default
+             */
+            public Builder destinations(Cidr destinations) {
+                this.destinations = destinations;
+                return this;
+            }
+
+            public FlowGenerator build() {
+                if (random == null || sources == null || destinations == null) {
+                    throw new IllegalArgumentException("Random, sources and destinations should be set");
+                }
+                return new FlowGenerator(this);
+            }
+        }
+    }
+}
@@ -1,9 +1,23 @@
 package net.datafaker;
 
+import net.datafaker.distributions.ExponentialSampler;
+import net.datafaker.distributions.GaussianSampler;
+import net.datafaker.distributions.LogNormalSampler;
+import net.datafaker.distributions.ParetoSampler;
+import net.datafaker.distributions.PoissonSampler;
+import net.datafaker.distributions.ZipfSampler;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 public class Number {
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    // all the longs below are exactly representable as doubles
+    private static final double MAX_EXACT_DOUBLE = 1L << 53;
+    private static final int NINE_DIGITS = 9;
+    private static final int NINE_DIGITS_BOUND = 1_000_000_000;
     private final Faker faker;
 
     protected Number(Faker faker) {
@@ -82,27 +96,68 @@ public double randomDouble(int maxNumberOfDecimals, int min, int max) {
      * @param max                 maximum value
      */
     public double randomDouble(int maxNumberOfDecimals, long min, long max) {
-        return decimalBetween(min, max)
-            .setScale(maxNumberOfDecimals, RoundingMode.HALF_DOWN)
-            .doubleValue();
+        if (min == max) {
+            return min;
+        }
+        final double value = min + ((double) max - (double) min) * faker.random().nextDouble();
+        return round(value, maxNumberOfDecimals);
     }
 
     /**
-     * @param min the lower bound (include min)
-     * @param max the lower bound (not include max)
-     * @return decimalBetween on faker.number() between min and max
-     * if min = max, return min
+     * Fills the array with random doubles, same as calling {@link #randomDouble(int, long, long)} for every element.
+     *
+     * @param values              array to fill
+     * @param maxNumberOfDecimals maximum number of places
+     * @param min                 minimum value
+     * @param max                 maximum value
      */
-    private BigDecimal decimalBetween(long min, long max) {
-        if (min == max) {
-            return BigDecimal.valueOf(min);
+    public void randomDoubles(double[] values, int maxNumberOfDecimals, long min, long max) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomDouble(maxNumberOfDecimals, min, max);
         }
+    }
 
-        final BigDecimal trueMin = BigDecimal.valueOf(min);
-        final BigDecimal trueMax = BigDecimal.valueOf(max);
-        final BigDecimal random = BigDecimal.valueOf(faker.random().nextDouble());
+    /**
+     * Fills the array with random numbers, same as calling {@link #numberBetween(int, int)} for every element.
+     */
+    public void numbersBetween(int[] values, int min, int max) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = numberBetween(min, max);
+        }
+    }
 
-        return trueMin.add(trueMax.subtract(trueMin).multiply(random));
+    /**
+     * Fills the array with random numbers, same as calling {@link #numberBetween(long, long)} for every element.
+     */
+    public void numbersBetween(long[] values, long min, long max) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = numberBetween(min, max);
+        }
+    }
+
+    /**
+     * Rounds the value to the given number of decimals (half down) like
+     * {@code BigDecimal.valueOf(value).setScale(numberOfDecimals, RoundingMode.HALF_DOWN)}, i.e. based on the
+     * decimal representation of {@link Double#toString(double)}, using scaled long arithmetic.
+     * The scaled value is off by at most a few ulps from that representation, so {@link BigDecimal} is only used
+     * if its fraction is that close to one half, or if it does not fit into the exact range of a double.
+     */
+    static double round(double value, int numberOfDecimals) {
+        if (numberOfDecimals >= 0 && numberOfDecimals < POWERS_OF_TEN.length) {
+            final double scaled = Math.abs(value) * POWERS_OF_TEN[numberOfDecimals];
+            if (scaled < MAX_EXACT_DOUBLE) {
+                long rounded = (long) scaled;
+                final double fraction = scaled - rounded;
+                if (Math.abs(fraction - 0.5) > 4 * Math.ulp(scaled)) {
+                    if (fraction > 0.5) {
+                        rounded++;
+                    }
+                    final double result = rounded / POWERS_OF_TEN[numberOfDecimals];
+                    return value < 0 && rounded != 0 ? -result : result;
+                }
+            }
+        }
+        return BigDecimal.valueOf(value).setScale(numberOfDecimals, RoundingMode.HALF_DOWN).doubleValue();
     }
 
     private int intBetween(int min, int max) {
@@ -115,13 +170,137 @@ private long longBetween(long min, long max) {
 
     public String digits(int count) {
         final char[] result = new char[count];
-        for (int i = 0; i < count; i++) {
-            result[i] = (char) ('0' + randomDigit());
-        }
+        digits(result, 0, count);
         return String.valueOf(result);
     }
 
+    /**
+     * Writes {@code count} random digits into the buffer starting from {@code offset}.
+     * Every random draw produces 9 digits, so no intermediate objects are created.
+     */
+    public void digits(char[] buffer, int offset, int count) {
+        int i = 0;
+        while (i < count) {
+            int chunk = faker.random().nextInt(NINE_DIGITS_BOUND);
+            for (int j = 0; j < NINE_DIGITS && i < count; j++, i++) {
+                buffer[offset + i] = (char) ('0' + chunk % 10);
+                chunk /= 10;
+            }
+        }
+    }
+
+    /**
+     * Appends {@code count} random digits to the {@link StringBuilder}.
+     */
+    public void digits(StringBuilder sb, int count) {
+        int i = 0;
+        while (i < count) {
+            int chunk = faker.random().nextInt(NINE_DIGITS_BOUND);
+            for (int j = 0; j < NINE_DIGITS && i < count; j++, i++) {
+                sb.append((char) ('0' + chunk % 10));
+                chunk /= 10;
+            }
+        }
+    }
+
     public String digit() {
         return digits(1);
     }
+
+    /**
+     * @param mean              mean of the distribution
+     * @param standardDeviation standard deviation of the distribution
+     * @return a random number of the normal distribution
+     * @throws IllegalArgumentException if {@code standardDeviation} is negative or NaN
+     */
+    public double gaussian(double mean, double standardDeviation) {
+        if (standardDeviation < 0 || Double.isNaN(standardDeviation)) {
+            throw new IllegalArgumentException("Standard deviation should be non negative, but was " + standardDeviation);
+        }
+        return mean + standardDeviation * GaussianSampler.standardNormal(faker.random());
+    }
+
+    /**
+     * @param rate rate (lambda) of the distribution
+     * @return a random number of the exponential distribution
+     */
+    public double exponential(double rate) {
+        return exponentialDistribution(rate).sample();
+    }
+
+    /**
+     * @param mean mean of the distribution
+     * @return a random number of the Poisson distribution
+     */
+    public long poisson(double mean) {
+        return poissonDistribution(mean).sample();
+    }
+
+    /**
+     * @param mu    mean of the underlying normal distribution
+     * @param sigma standard deviation of the underlying normal distribution
+     * @return a random number of the log-normal distribution
+     * @throws IllegalArgumentException if {@code sigma} is negative or NaN
+     */
+    public double logNormal(double mu, double sigma) {
+        if (sigma < 0 || Double.isNaN(sigma)) {
+            throw new IllegalArgumentException("Sigma should be non negative, but was " + sigma);
+        }
+        return Math.exp(mu + sigma * GaussianSampler.standardNormal(faker.random()));
+    }
+
+    /**
+     * @param scale minimal possible value
+     * @param shape tail index of the distribution
+     * @return a random number of the Pareto distribution
+     */
+    public double pareto(double scale, double shape) {
+        return paretoDistribution(scale, shape).sample();
+    }
+
+    /**
+     * Sampler of the normal distribution, it could be used to get many values or to fill arrays.
+     */
+    public GaussianSampler gaussianDistribution(double mean, double standardDeviation) {
+        return new GaussianSampler(faker.random(), mean, standardDeviation);
+    }
+
+    /**
+     * Sampler of the exponential distribution, it could be used to get many values or to fill arrays.
+     */
+    public ExponentialSampler exponentialDistribution(double rate) {
+        return new ExponentialSampler(faker.random(), rate);
+    }
+
+    /**
+     * Sampler of the Poisson distribution, it could be used to get many values or to fill arrays.
+     */
+    public PoissonSampler poissonDistribution(double mean) {
+        return new PoissonSampler(faker.random(), mean);
+    }
+
+    /**
+     * Sampler of the log-normal distribution, it could be used to get many values or to fill arrays.
+     */
+    public LogNormalSampler logNormalDistribution(double mu, double sigma) {
+        return new LogNormalSampler(faker.random(), mu, sigma);
+    }
+
+    /**
+     * Sampler of the Pareto distribution, it could be used to get many values or to fill arrays.
+     */
+    public ParetoSampler paretoDistribution(double scale, double shape) {
+        return new ParetoSampler(faker.random(), scale, shape);
+    }
+
+    /**
+     * Sampler of the Zipf distribution over ranks from 1 to {@code numberOfElements}.
+     * The probabilities are precomputed, so the sampler should be created once and reused.
+     *
+     * @param numberOfElements number of ranks
+     * @param exponent         exponent of the power law, usually close to 1
+     */
+    public ZipfSampler zipfDistribution(int numberOfElements, double exponent) {
+        return new ZipfSampler(faker.random(), numberOfElements, exponent);
+    }
 }
@@ -0,0 +1,454 @@
+package net.datafaker;
+
+import net.datafaker.distributions.DoubleSampler;
+import net.datafaker.distributions.ExponentialSampler;
+import net.datafaker.distributions.GaussianSampler;
+import net.datafaker.service.RandomService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy stream of events with monotonically increasing timestamps.
+ * <p>
+ * Timestamps follow the configured {@link ArrivalProcess}, every event is created by an {@link EventFactory}
+ * which gets a reusable {@link Tick} with the timestamp, sequence number and (optionally) the session of the event.
+ * Nothing is precomputed, so the series can be infinite. Optionally the events are paced to a wall-clock rate.
+ * <pre>
+ * TimeSeries&lt;String&gt; series = TimeSeries.&lt;String&gt;builder(faker)
+ *     .arrivals(TimeSeries.ArrivalProcess.poisson(1000))
+ *     .sessions(100, 20)
+ *     .event(tick -&gt; tick.getEpochMillis() + "," + tick.getSessionId() + "," + faker.internet().url())
+ *     .limit(1_000_000)
+ *     .build();
+ * series.forEach(System.out::println);
+ * </pre>
+ */
+public class TimeSeries<T> implements Iterable<T> {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    // it does not make sense to park for less, the parking itself takes longer
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final RandomService randomService;
+    private final ArrivalProcess arrivals;
+    private final EventFactory<T> eventFactory;
+    private final long startNanos;
+    private final long endNanos;
+    private final long limit;
+    private final int concurrentSessions;
+    private final double meanEventsPerSession;
+    private final double eventsPerSecond;
+
+    private TimeSeries(Builder<T> builder) {
+        this.randomService = builder.randomService;
+        this.arrivals = builder.arrivals;
+        this.eventFactory = builder.eventFactory;
+        this.startNanos = Builder.toNanos(builder.start == null ? Instant.now() : builder.start);
+        this.endNanos = builder.endNanos;
+        this.limit = builder.limit;
+        this.concurrentSessions = builder.concurrentSessions;
+        this.meanEventsPerSession = builder.meanEventsPerSession;
+        this.eventsPerSecond = builder.eventsPerSecond;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new EventIterator();
+    }
+
+    /**
+     * Generates all the events to the consumer.
+     */
+    @Override
+    public void forEach(Consumer<? super T> consumer) {
+        final EventIterator iterator = new EventIterator();
+        while (iterator.hasNext()) {
+            consumer.accept(iterator.next());
+        }
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    private static long gapNanos(double eventsPerSecond) {
+        return Math.max(1, (long) (NANOS_PER_SECOND / checkRate(eventsPerSecond)));
+    }
+
+    private static double checkRate(double eventsPerSecond) {
+        if (!(eventsPerSecond > 0) || Double.isInfinite(eventsPerSecond)) {
+            throw new IllegalArgumentException("Rate should be a positive number, but was " + eventsPerSecond);
+        }
+        return eventsPerSecond;
+    }
+
+    private class EventIterator implements Iterator<T> {
+        private final LongUnaryOperator gaps = arrivals.start(randomService);
+        private final Tick tick = new Tick();
+        private final long[] sessionIds = new long[concurrentSessions];
+        private final int[] sessionEventIndexes = new int[concurrentSessions];
+        private final long wallClockStart = System.nanoTime();
+        private long nextSessionId;
+        private long sequence;
+        private long timestamp = startNanos;
+
+        private EventIterator() {
+            for (int i = 0; i < concurrentSessions; i++) {
+                sessionIds[i] = nextSessionId++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sequence < limit && timestamp < endNanos;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (eventsPerSecond > 0) {
+                pace();
+            }
+            tick.sequence = sequence;
+            tick.epochNanos = timestamp;
+            if (concurrentSessions > 0) {
+                final int session = concurrentSessions == 1 ? 0 : randomService.nextInt(concurrentSessions);
+                tick.sessionId = sessionIds[session];
+                tick.sessionEventIndex = sessionEventIndexes[session]++;
+                // geometric session length with the given mean
+                if (randomService.nextDouble() * meanEventsPerSession < 1) {
+                    sessionIds[session] = nextSessionId++;
+                    sessionEventIndexes[session] = 0;
+                }
+            }
+            final T event = eventFactory.create(tick);
+            sequence++;
+            timestamp += Math.max(1, gaps.applyAsLong(timestamp));
+            return event;
+        }
+
+        private void pace() {
+            final long due = wallClockStart + (long) (sequence * (NANOS_PER_SECOND / eventsPerSecond));
+            long ahead;
+            while ((ahead = due - System.nanoTime()) > MIN_PARK_NANOS) {
+                LockSupport.parkNanos(ahead);
+            }
+        }
+    }
+
+    /**
+     * Creates an event for the tick. The tick is reused between the calls, so it should not be stored.
+     */
+    @FunctionalInterface
+    public interface EventFactory<T> {
+        T create(Tick tick);
+    }
+
+    /**
+     * Position of an event in the series.
+     */
+    public static final class Tick {
+        private long sequence;
+        private long epochNanos;
+        private long sessionId = -1;
+        private int sessionEventIndex = -1;
+
+        /**
+         * @return zero-based number of the event in the series
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getEpochNanos() {
+            return epochNanos;
+        }
+
+        public long getEpochMillis() {
+            return Math.floorDiv(epochNanos, 1_000_000L);
+        }
+
+        public Instant getInstant() {
+            return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+        }
+
+        /**
+         * @return id of the session of the event or -1 if sessions are not configured
+         */
+        public long getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * @return zero-based number of the event in its session or -1 if sessions are not configured
+         */
+        public int getSessionEventIndex() {
+            return sessionEventIndex;
+        }
+    }
+
+    /**
+     * Describes how the gaps between the events are distributed.
+     * The description is immutable, {@link #start(RandomService)} creates the state for one pass over a series.
+     */
+    @FunctionalInterface
+    public interface ArrivalProcess {
+
+        /**
+         * @return a function from the timestamp of an event (epoch nanos) to the gap before the next one (nanos)
+         */
+        LongUnaryOperator start(RandomService randomService);
+
+        /**
+         * Events at exactly the given rate.
+         */
+        static ArrivalProcess fixedRate(double eventsPerSecond) {
+            final long gap = gapNanos(eventsPerSecond);
+            return randomService -> timestamp -> gap;
+        }
+
+        /**
+         * Poisson process: exponentially distributed gaps with the given mean rate.
+         */
+        static ArrivalProcess poisson(double eventsPerSecond) {
+            final double meanGap = NANOS_PER_SECOND / checkRate(eventsPerSecond);
+            return randomService -> timestamp -> (long) (meanGap * ExponentialSampler.standardExponential(randomService));
+        }
+
+        /**
+         * Markov modulated Poisson process with two states: quiet periods with {@code baseRate}
+         * and bursts with {@code burstRate}. Durations of both periods are exponentially distributed with the given means.
+         */
+        static ArrivalProcess bursty(double baseRate, double burstRate, Duration meanQuiet, Duration meanBurst) {
+            checkRate(baseRate);
+            checkRate(burstRate);
+            final double meanQuietNanos = meanQuiet.toNanos();
+            final double meanBurstNanos = meanBurst.toNanos();
+            if (!(meanQuietNanos > 0) || !(meanBurstNanos > 0)) {
+                throw new IllegalArgumentException("Durations of quiet and burst periods should be positive");
+            }
+            return randomService -> new LongUnaryOperator() {
+                private boolean burst;
+                private double stateLeft = meanQuietNanos * ExponentialSampler.standardExponential(randomService);
+
+                @Override
+                public long applyAsLong(long timestamp) {
+                    double gap = 0;
+                    for (; ; ) {
+                        // exponential gaps are memoryless, so on a state change the rest of the gap is just resampled
+                        final double next = NANOS_PER_SECOND / (burst ? burstRate : baseRate)
+                            * ExponentialSampler.standardExponential(randomService);
+                        if (next <= stateLeft) {
+                            stateLeft -= next;
+                            return (long) (gap + next);
+                        }
+                        gap += stateLeft;
+                        burst = !burst;
+                        stateLeft = (burst ? meanBurstNanos : meanQuietNanos) * ExponentialSampler.standardExponential(randomService);
+                    }
+                }
+            };
+        }
+
+        /**
+         * Non-homogeneous Poisson process with a daily cycle:
+         * {@code rate(t) = meanRate * (1 + amplitude * cos(2 * PI * (hour(t) - peakHour) / 24))}, hours are in UTC.
+         *
+         * @param meanRate  average number of events per second over a day
+         * @param amplitude relative amplitude of the cycle from 0 (constant rate) to 1 (no events at night)
+         * @param peakHour  hour of the day (UTC, may be fractional) with the highest rate
+         */
+        static ArrivalProcess diurnal(double meanRate, double amplitude, double peakHour) {
+            checkRate(meanRate);
+            if (!(amplitude >= 0 && amplitude <= 1)) {
+                throw new IllegalArgumentException("Amplitude should be between 0 and 1, but was " + amplitude);
+            }
+            final double maxRate = meanRate * (1 + amplitude);
+            final double maxRateGap = NANOS_PER_SECOND / maxRate;
+            final long nanosPerDay = TimeUnit.DAYS.toNanos(1);
+            final double peak = peakHour / 24 * nanosPerDay;
+            // thinning (Lewis and Shedler): candidates with the max rate are accepted with probability rate(t) / maxRate
+            return randomService -> timestamp -> {
+                final long timeOfDay = Math.floorMod(timestamp, nanosPerDay);
+                double gap = 0;
+                for (; ; ) {
+                    gap += maxRateGap * ExponentialSampler.standardExponential(randomService);
+                    final double phase = 2 * Math.PI * (timeOfDay + gap - peak) / nanosPerDay;
+                    final double rate = meanRate * (1 + amplitude * Math.cos(phase));
+                    if (randomService.nextDouble() * maxRate < rate) {
+                        return (long) gap;
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Mean reverting random walk (discrete Ornstein-Uhlenbeck process) for metrics-like values:
+     * {@code x(n + 1) = x(n) + reversion * (mean - x(n)) + volatility * N(0, 1)}, clamped to {@code [min, max]}.
+     * Consecutive values are correlated, with {@code reversion = 0} it is a plain Gaussian random walk.
+     */
+    public static class Walk implements DoubleSampler {
+        private final RandomService randomService;
+        private final double mean;
+        private final double reversion;
+        private final double volatility;
+        private final double min;
+        private final double max;
+        private double current;
+
+        public Walk(RandomService randomService, double start, double mean, double reversion, double volatility) {
+            this(randomService, start, mean, reversion, volatility, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+
+        public Walk(RandomService randomService, double start, double mean, double reversion, double volatility, double min, double max) {
+            if (reversion < 0 || reversion > 1) {
+                throw new IllegalArgumentException("Reversion should be between 0 and 1, but was " + reversion);
+            }
+            if (volatility < 0) {
+                throw new IllegalArgumentException("Volatility should be non negative, but was " + volatility);
+            }
+            if (min > max) {
+                throw new IllegalArgumentException("Min should not be greater than max");
+            }
+            this.randomService = randomService;
+            this.current = Math.min(max, Math.max(min, start));
+            this.mean = mean;
+            this.reversion = reversion;
+            this.volatility = volatility;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Makes a step and returns the new value.
+         */
+        @Override
+        public double sample() {
+            final double next = current + reversion * (mean - current) + volatility * GaussianSampler.standardNormal(randomService);
+            current = Math.min(max, Math.max(min, next));
+            return current;
+        }
+
+        /**
+         * @return the current value without making a step
+         */
+        public double current() {
+            return current;
+        }
+    }
+
+    /**
+     * @return a builder drawing from {@code faker.random()}, so the series is reproducible for a seeded faker
+     */
+    public static <T> Builder<T> builder(Faker faker) {
+        return new Builder<>(faker.random());
+    }
+
+    public static class Builder<T> {
+        private final RandomService randomService;
+        private ArrivalProcess arrivals = ArrivalProcess.poisson(1);
+        private EventFactory<T> eventFactory;
+        private Instant start;
+        private long endNanos = Long.MAX_VALUE;
+        private long limit = Long.MAX_VALUE;
+        private int concurrentSessions;
+        private double meanEventsPerSession;
+        private double eventsPerSecond;
+
+        /**
+         * @param randomService source of randomness, pass {@code faker.random()} to get reproducible series
+         *                      for a seeded faker
+         */
+        public Builder(RandomService randomService) {
+            this.randomService = Objects.requireNonNull(randomService);
+        }
+
+        public Builder<T> arrivals(ArrivalProcess arrivals) {
+            this.arrivals = Objects.requireNonNull(arrivals);
+            return this;
+        }
+
+        public Builder<T> event(EventFactory<T> eventFactory) {
+            this.eventFactory = Objects.requireNonNull(eventFactory);
+            return this;
+        }
+
+        /**
+         * Timestamp of the first event, current time by default.
+         */
+        public Builder<T> start(Instant start) {
+            this.start = Objects.requireNonNull(start);
+            return this;
+        }
+
+        /**
+         * No events at or after this timestamp are generated.
+         */
+        public Builder<T> end(Instant end) {
+            this.endNanos = toNanos(end);
+            return this;
+        }
+
+        /**
+         * Maximum number of events.
+         */
+        public Builder<T> limit(long limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit should be non negative");
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Assigns events to sessions. There are always {@code concurrentSessions} open sessions,
+         * every event goes to a random one of them. Session lengths are geometrically distributed with the given mean,
+         * a finished session is replaced by a new one.
+         */
+        public Builder<T> sessions(int concurrentSessions, double meanEventsPerSession) {
+            if (concurrentSessions <= 0) {
+                throw new IllegalArgumentException("Number of concurrent sessions should be positive");
+            }
+            if (!(meanEventsPerSession >= 1)) {
+                throw new IllegalArgumentException("Mean number of events per session should be at least 1");
+            }
+            this.concurrentSessions = concurrentSessions;
+            this.meanEventsPerSession = meanEventsPerSession;
+            return this;
+        }
+
+        /**
+         * Emits events not faster than the given number of events per second of wall-clock time.
+         * The pacing does not depend on the timestamps of the events.
+         */
+        public Builder<T> pacing(double eventsPerSecond) {
+            this.eventsPerSecond = checkRate(eventsPerSecond);
+            return this;
+        }
+
+        public TimeSeries<T> build() {
+            if (eventFactory == null) {
+                throw new IllegalArgumentException("Event factory is required");
+            }
+            return new TimeSeries<>(this);
+        }
+
+        private static long toNanos(Instant instant) {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+        }
+    }
+}
@@ -5,7 +5,6 @@
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,7 +41,7 @@ public Date created_time(boolean forward, Date base, Date constrains) {
     }
 
     /**
-     * Used to fake a new Twitter ID without collision using both current time and uuid as seeds.
+     * Used to fake a new Twitter ID without collision using both current time and a random number as seeds.
      *
      * @param expectedLength the expected length of the twitter id. Should be greater or equals to 6 and
      *                       less than or equals to 25.
@@ -55,16 +54,12 @@ public String twitterId(int expectedLength) {
             logger.warning("expectedLength <= 6 may easily cause twitter id collision. And expectedLength >= 25" +
                 " can be easily out of bound.");
         }
-        int hashCodeV = UUID.randomUUID().toString().hashCode();
-        if (hashCodeV < 0) {
-            hashCodeV = -hashCodeV;
-        }
-        String id1 = String.valueOf(hashCodeV);
+        RandomService random = faker.random();
+        String id1 = String.valueOf(random.nextInt(Integer.MAX_VALUE));
 
         SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmss");
         String newDate = sdf.format(new Date());
         String result = "";
-        RandomService random = faker.random();
         for (int i = 0; i < expectedLength - id1.length() - newDate.length(); i++) {
             result = result.concat(String.valueOf(random.nextInt(10)));
         }
@@ -0,0 +1,254 @@
+package net.datafaker.dispatch;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@link DispatchTable} named {@code <Class>_DispatchTable} for every class annotated with
+ * {@link GenerateDispatch}, registered in {@code META-INF/services/net.datafaker.dispatch.DispatchTable}.
+ * <p>
+ * The table covers the public methods of the class and of the classes of the same package returned by its
+ * public no-arg methods, except the methods of {@link Object}. {@link DispatchTable#invoke} is a switch on
+ * the class, then a switch on the method, so no lambda or reflection is involved.
+ * <p>
+ * It only uses the names of the runtime classes, so it can be compiled before them.
+ */
+@SupportedAnnotationTypes(DispatchProcessor.GENERATE_DISPATCH)
+public class DispatchProcessor extends AbstractProcessor {
+    static final String GENERATE_DISPATCH = "net.datafaker.dispatch.GenerateDispatch";
+    private static final String DISPATCH_TABLE = "net.datafaker.dispatch.DispatchTable";
+    private static final String SUFFIX = "_DispatchTable";
+
+    private final List<String> tables = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+        final TypeElement annotation = processingEnv.getElementUtils().getTypeElement(GENERATE_DISPATCH);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.PRIVATE)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@GenerateDispatch is only supported on non-private classes", element);
+                continue;
+            }
+            try {
+                generate((TypeElement) element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the dispatch table: " + e, element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement root) throws IOException {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(root).getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(root).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            .replace('$', '_') + SUFFIX;
+        final String tableName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        final List<TypeElement> types = new ArrayList<>(covered(root, packageName));
+        final StringBuilder register = new StringBuilder();
+        final StringBuilder invoke = new StringBuilder();
+        final StringBuilder methods = new StringBuilder();
+        for (int t = 0; t < types.size(); t++) {
+            final TypeElement type = types.get(t);
+            final String typeName = erasure(type.asType());
+            final List<ExecutableElement> dispatched = dispatched(type, packageName);
+            register.append("        register").append(t).append("(registry);\n");
+            invoke.append("            case ").append(t).append(":\n")
+                .append("                return invoke").append(t).append("(id & 0xFFFF, (").append(typeName)
+                .append(") target, args);\n");
+
+            methods.append("\n    private static void register").append(t)
+                .append("(net.datafaker.dispatch.Dispatcher.Registry registry) {\n");
+            final StringBuilder cases = new StringBuilder();
+            for (int m = 0; m < dispatched.size(); m++) {
+                final ExecutableElement method = dispatched.get(m);
+                final List<? extends VariableElement> parameters = method.getParameters();
+                methods.append("        registry.add(").append(t << 16 | m).append(", ").append(typeName)
+                    .append(".class, \"").append(method.getSimpleName()).append("\", ").append(method.isVarArgs());
+                final StringBuilder call = new StringBuilder();
+                call.append(method.getModifiers().contains(Modifier.STATIC) ? typeName : "target")
+                    .append('.').append(method.getSimpleName()).append('(');
+                for (int p = 0; p < parameters.size(); p++) {
+                    final String parameterType = erasure(parameters.get(p).asType());
+                    methods.append(", ").append(parameterType).append(".class");
+                    call.append(p == 0 ? "" : ", ").append('(').append(parameterType).append(") args[").append(p).append(']');
+                }
+                call.append(')');
+                methods.append(");\n");
+                cases.append("            case ").append(m).append(":\n");
+                if (method.getReturnType().getKind() == TypeKind.VOID) {
+                    cases.append("                ").append(call).append(";\n")
+                        .append("                return null;\n");
+                } else {
+                    cases.append("                return ").append(call).append(";\n");
+                }
+            }
+            methods.append("    }\n");
+            methods.append("\n    private static Object invoke").append(t).append("(int id, ").append(typeName)
+                .append(" target, Object[] args) throws Exception {\n")
+                .append("        switch (id) {\n")
+                .append(cases)
+                .append("            default:\n")
+                .append("                throw new IllegalArgumentException(\"Unknown method \" + id + \" of ")
+                .append(typeName).append("\");\n")
+                .append("        }\n")
+                .append("    }\n");
+        }
+
+        final Element[] originating = types.toArray(new Element[0]);
+        try (Writer writer = processingEnv.getFiler().createSourceFile(tableName, originating).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("/**\n"
+                + " * Generated by {@link net.datafaker.dispatch.DispatchProcessor} for {@link " + erasure(root.asType()) + "}.\n"
+                + " */\n"
+                + "@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\"})\n"
+                + "public final class " + simpleName + " implements net.datafaker.dispatch.DispatchTable {\n"
+                + "    @Override\n"
+                + "    public void register(net.datafaker.dispatch.Dispatcher.Registry registry) {\n"
+                + register
+                + "    }\n\n"
+                + "    @Override\n"
+                + "    public Object invoke(int id, Object target, Object[] args) throws Exception {\n"
+                + "        switch (id >>> 16) {\n"
+                + invoke
+                + "            default:\n"
+                + "                throw new IllegalArgumentException(\"Unknown method \" + id);\n"
+                + "        }\n"
+                + "    }\n"
+                + methods
+                + "}\n");
+        }
+        tables.add(tableName);
+    }
+
+    /**
+     * The root and the classes of its package returned by its public no-arg methods.
+     */
+    private Set<TypeElement> covered(TypeElement root, String packageName) {
+        final Set<TypeElement> types = new LinkedHashSet<>();
+        types.add(root);
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(root))) {
+            if (!isPublicInstanceMethod(method) || !method.getParameters().isEmpty()
+                || method.getReturnType().getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            final TypeElement type = (TypeElement) ((DeclaredType) method.getReturnType()).asElement();
+            if (type.getKind() == ElementKind.CLASS && isAccessible(type, packageName)
+                && packageName.equals(processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString())) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private List<ExecutableElement> dispatched(TypeElement type, String packageName) {
+        final TypeMirror exception = processingEnv.getElementUtils().getTypeElement(Exception.class.getName()).asType();
+        final List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                || ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName())) {
+                continue;
+            }
+            boolean supported = true;
+            for (VariableElement parameter : method.getParameters()) {
+                supported &= isAccessible(parameter.asType(), packageName);
+            }
+            for (TypeMirror thrown : method.getThrownTypes()) {
+                supported &= processingEnv.getTypeUtils().isAssignable(thrown, exception);
+            }
+            if (supported) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static boolean isPublicInstanceMethod(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private boolean isAccessible(TypeMirror type, String packageName) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) erased).getComponentType(), packageName);
+        }
+        return erased.getKind() != TypeKind.DECLARED
+            || isAccessible((TypeElement) ((DeclaredType) erased).asElement(), packageName);
+    }
+
+    /**
+     * @return whether the generated table in {@code packageName} can refer to {@code type}
+     */
+    private boolean isAccessible(TypeElement type, String packageName) {
+        final boolean samePackage =
+            packageName.equals(processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString());
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private void writeServices() {
+        if (tables.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject services = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + DISPATCH_TABLE);
+            try (Writer writer = services.openWriter()) {
+                for (String table : tables) {
+                    writer.write(table);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to register the dispatch tables: " + e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package net.datafaker.dispatch;
+
+/**
+ * Direct calls of the public methods of some classes, generated by {@link DispatchProcessor}
+ * and found with {@link java.util.ServiceLoader}.
+ */
+public interface DispatchTable {
+    /**
+     * Adds every method of the covered classes with {@link Dispatcher.Registry#add}.
+     */
+    void register(Dispatcher.Registry registry);
+
+    /**
+     * Calls the method registered under {@code id}.
+     *
+     * @param target the object to call the method on, ignored for static methods
+     * @param args   the arguments, already of the parameter types, the last one an array for varargs
+     * @return the result, {@code null} for void methods
+     */
+    Object invoke(int id, Object target, Object[] args) throws Exception;
+}
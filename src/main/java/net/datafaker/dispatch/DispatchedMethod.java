@@ -0,0 +1,56 @@
+package net.datafaker.dispatch;
+
+/**
+ * A public method called through a {@link DispatchTable}, the reflection free counterpart of a
+ * {@link java.lang.reflect.Method}.
+ */
+public final class DispatchedMethod {
+    private final DispatchTable table;
+    private final int id;
+    private final Class<?> declaringType;
+    private final String name;
+    private final boolean varArgs;
+    private final Class<?>[] parameterTypes;
+
+    DispatchedMethod(DispatchTable table, int id, Class<?> declaringType, String name, boolean varArgs,
+                     Class<?>[] parameterTypes) {
+        this.table = table;
+        this.id = id;
+        this.declaringType = declaringType;
+        this.name = name;
+        this.varArgs = varArgs;
+        this.parameterTypes = parameterTypes;
+    }
+
+    public Class<?> getDeclaringType() {
+        return declaringType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isVarArgs() {
+        return varArgs;
+    }
+
+    public int getParameterCount() {
+        return parameterTypes.length;
+    }
+
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    /**
+     * Unlike {@link java.lang.reflect.Method#invoke} exceptions are not wrapped.
+     */
+    public Object invoke(Object target, Object... args) throws Exception {
+        return table.invoke(id, target, args);
+    }
+
+    @Override
+    public String toString() {
+        return declaringType.getName() + "." + name;
+    }
+}
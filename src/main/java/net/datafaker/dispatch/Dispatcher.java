@@ -0,0 +1,71 @@
+package net.datafaker.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * The methods of every {@link DispatchTable} on the class path by class and lower case name,
+ * loaded once and immutable afterwards.
+ */
+public final class Dispatcher {
+    private static final Map<Class<?>, Map<String, List<DispatchedMethod>>> METHODS = load();
+
+    private Dispatcher() {
+    }
+
+    /**
+     * @param type      the runtime class of the object to call the method on
+     * @param lowerName the method name in lower case
+     * @return the methods of that name in declaration order, empty if there is none,
+     * {@code null} if {@code type} is not covered by a dispatch table
+     */
+    public static List<DispatchedMethod> methods(Class<?> type, String lowerName) {
+        final Map<String, List<DispatchedMethod>> methods = METHODS.get(type);
+        return methods == null ? null : methods.getOrDefault(lowerName, Collections.emptyList());
+    }
+
+    public static boolean covers(Class<?> type) {
+        return METHODS.containsKey(type);
+    }
+
+    private static Map<Class<?>, Map<String, List<DispatchedMethod>>> load() {
+        final Registry registry = new Registry();
+        for (DispatchTable table : ServiceLoader.load(DispatchTable.class, Dispatcher.class.getClassLoader())) {
+            registry.table = table;
+            table.register(registry);
+        }
+        return registry.methods;
+    }
+
+    /**
+     * Collects the methods of the tables.
+     */
+    public static final class Registry {
+        private final Map<Class<?>, Map<String, List<DispatchedMethod>>> methods = new IdentityHashMap<>();
+        private final Map<Class<?>, DispatchTable> owners = new IdentityHashMap<>();
+        private DispatchTable table;
+
+        private Registry() {
+        }
+
+        /**
+         * Classes covered by several tables keep the methods of the first one.
+         *
+         * @param id a number unique in the table passed to its {@link DispatchTable#invoke}
+         */
+        public void add(int id, Class<?> type, String name, boolean varArgs, Class<?>... parameterTypes) {
+            if (owners.computeIfAbsent(type, key -> table) != table) {
+                return;
+            }
+            methods.computeIfAbsent(type, key -> new HashMap<>())
+                .computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> new ArrayList<>(1))
+                .add(new DispatchedMethod(table, id, type, name, varArgs, parameterTypes));
+        }
+    }
+}
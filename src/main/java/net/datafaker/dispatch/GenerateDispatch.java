@@ -0,0 +1,22 @@
+package net.datafaker.dispatch;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes {@link DispatchProcessor} generate a {@link DispatchTable} for the annotated class and for the classes
+ * of the same package returned by its public no-arg methods, i.e. the providers of a {@code Faker}.
+ * Expressions like {@code #{Address.street_name}} then call their public methods directly instead of through
+ * reflection.
+ * <p>
+ * Custom providers opt in by annotating the provider, or their {@code Faker} subclass, and running the processor,
+ * e.g. with {@code -processor net.datafaker.dispatch.DispatchProcessor}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateDispatch {
+}
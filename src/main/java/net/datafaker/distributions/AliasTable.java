@@ -0,0 +1,84 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Walker's alias table (in Vose's formulation) for a discrete distribution given by weights.
+ * <p>
+ * The table is built once in O(n), after that every sample is O(1) and takes
+ * exactly one {@code nextInt} and one {@code nextDouble} draw.
+ * The table itself is immutable and does not hold a {@link RandomService},
+ * so it can be shared between fakers with different seeds.
+ */
+public class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights non-negative finite weights, at least one of them should be positive
+     * @throws IllegalArgumentException in case of invalid weights
+     */
+    public AliasTable(double[] weights) {
+        final int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        double sum = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weight should be a non negative finite number, but was " + weight);
+            }
+            sum += weight;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("At least one weight should be positive");
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+        final double[] scaled = new double[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // the rest should have probability 1, anything else is a rounding error
+        while (largeSize > 0) {
+            probability[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            probability[small[--smallSize]] = 1;
+        }
+    }
+
+    /**
+     * @return a random index from 0 (inclusive) to {@link #size()} (exclusive) with respect to the weights
+     */
+    public int sample(RandomService randomService) {
+        final int column = randomService.nextInt(probability.length);
+        return randomService.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    public int size() {
+        return probability.length;
+    }
+}
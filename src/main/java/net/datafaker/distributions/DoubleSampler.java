@@ -0,0 +1,29 @@
+package net.datafaker.distributions;
+
+/**
+ * A source of {@code double} values following some distribution.
+ */
+public interface DoubleSampler {
+
+    /**
+     * @return next value of the distribution
+     */
+    double sample();
+
+    /**
+     * Fills the whole array with values of the distribution.
+     */
+    default void fill(double[] values) {
+        fill(values, 0, values.length);
+    }
+
+    /**
+     * Fills the array with values of the distribution starting from index {@code from} (inclusive)
+     * to index {@code to} (exclusive).
+     */
+    default void fill(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = sample();
+        }
+    }
+}
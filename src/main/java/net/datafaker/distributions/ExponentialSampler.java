@@ -0,0 +1,34 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Exponential distribution sampler (inversion method).
+ */
+public class ExponentialSampler implements DoubleSampler {
+    private final RandomService randomService;
+    private final double mean;
+
+    /**
+     * @param rate rate (lambda) of the distribution, the mean is {@code 1 / rate}
+     */
+    public ExponentialSampler(RandomService randomService, double rate) {
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("Rate should be a positive number, but was " + rate);
+        }
+        this.randomService = randomService;
+        this.mean = 1 / rate;
+    }
+
+    @Override
+    public double sample() {
+        return mean * standardExponential(randomService);
+    }
+
+    /**
+     * @return a value of the exponential distribution with rate 1
+     */
+    public static double standardExponential(RandomService randomService) {
+        return -Math.log(GaussianSampler.uniformNonZero(randomService));
+    }
+}
@@ -0,0 +1,94 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Normal distribution sampler based on the ziggurat method of Marsaglia and Tsang
+ * with 128 layers. In about 99% of cases a sample costs one {@code nextInt} draw and
+ * one multiplication, the tail and the wedges fall back to the exact computation.
+ */
+public class GaussianSampler implements DoubleSampler {
+    private static final int LAYERS = 128;
+    private static final double R = 3.442619855899;
+    private static final double V = 9.91256303526217e-3;
+    private static final double M1 = 2147483648.0;
+    private static final int[] KN = new int[LAYERS];
+    private static final double[] WN = new double[LAYERS];
+    private static final double[] FN = new double[LAYERS];
+
+    static {
+        double dn = R;
+        double tn = dn;
+        final double q = V / Math.exp(-.5 * dn * dn);
+        KN[0] = (int) ((dn / q) * M1);
+        KN[1] = 0;
+        WN[0] = q / M1;
+        WN[LAYERS - 1] = dn / M1;
+        FN[0] = 1.0;
+        FN[LAYERS - 1] = Math.exp(-.5 * dn * dn);
+        for (int i = LAYERS - 2; i >= 1; i--) {
+            dn = Math.sqrt(-2 * Math.log(V / dn + Math.exp(-.5 * dn * dn)));
+            KN[i + 1] = (int) ((dn / tn) * M1);
+            tn = dn;
+            FN[i] = Math.exp(-.5 * dn * dn);
+            WN[i] = dn / M1;
+        }
+    }
+
+    private final RandomService randomService;
+    private final double mean;
+    private final double standardDeviation;
+
+    public GaussianSampler(RandomService randomService, double mean, double standardDeviation) {
+        if (standardDeviation < 0 || Double.isNaN(standardDeviation)) {
+            throw new IllegalArgumentException("Standard deviation should be non negative, but was " + standardDeviation);
+        }
+        this.randomService = randomService;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+    }
+
+    @Override
+    public double sample() {
+        return mean + standardDeviation * standardNormal(randomService);
+    }
+
+    /**
+     * @return a value of the standard normal distribution (mean 0, standard deviation 1)
+     */
+    public static double standardNormal(RandomService randomService) {
+        int hz = randomService.nextInt();
+        int iz = hz & (LAYERS - 1);
+        if (Math.abs(hz) < KN[iz]) {
+            return hz * WN[iz];
+        }
+        for (; ; ) {
+            final double x = hz * WN[iz];
+            if (iz == 0) {
+                // the base layer: sample from the tail
+                double tail;
+                double y;
+                do {
+                    tail = -Math.log(uniformNonZero(randomService)) / R;
+                    y = -Math.log(uniformNonZero(randomService));
+                } while (y + y < tail * tail);
+                return hz > 0 ? R + tail : -R - tail;
+            }
+            if (FN[iz] + randomService.nextDouble() * (FN[iz - 1] - FN[iz]) < Math.exp(-.5 * x * x)) {
+                return x;
+            }
+            hz = randomService.nextInt();
+            iz = hz & (LAYERS - 1);
+            if (Math.abs(hz) < KN[iz]) {
+                return hz * WN[iz];
+            }
+        }
+    }
+
+    /**
+     * @return a uniformly distributed value from (0, 1]
+     */
+    static double uniformNonZero(RandomService randomService) {
+        return 1.0 - randomService.nextDouble();
+    }
+}
@@ -0,0 +1,29 @@
+package net.datafaker.distributions;
+
+/**
+ * A source of {@code int} values following some distribution.
+ */
+public interface IntSampler {
+
+    /**
+     * @return next value of the distribution
+     */
+    int sample();
+
+    /**
+     * Fills the whole array with values of the distribution.
+     */
+    default void fill(int[] values) {
+        fill(values, 0, values.length);
+    }
+
+    /**
+     * Fills the array with values of the distribution starting from index {@code from} (inclusive)
+     * to index {@code to} (exclusive).
+     */
+    default void fill(int[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = sample();
+        }
+    }
+}
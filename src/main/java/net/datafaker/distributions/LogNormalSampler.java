@@ -0,0 +1,30 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Log-normal distribution sampler: {@code exp(mu + sigma * N(0, 1))}.
+ */
+public class LogNormalSampler implements DoubleSampler {
+    private final RandomService randomService;
+    private final double mu;
+    private final double sigma;
+
+    /**
+     * @param mu    mean of the underlying normal distribution
+     * @param sigma standard deviation of the underlying normal distribution
+     */
+    public LogNormalSampler(RandomService randomService, double mu, double sigma) {
+        if (sigma < 0 || Double.isNaN(sigma)) {
+            throw new IllegalArgumentException("Sigma should be non negative, but was " + sigma);
+        }
+        this.randomService = randomService;
+        this.mu = mu;
+        this.sigma = sigma;
+    }
+
+    @Override
+    public double sample() {
+        return Math.exp(mu + sigma * GaussianSampler.standardNormal(randomService));
+    }
+}
@@ -0,0 +1,33 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Pareto (type I) distribution sampler (inversion method).
+ */
+public class ParetoSampler implements DoubleSampler {
+    private final RandomService randomService;
+    private final double scale;
+    private final double inverseShape;
+
+    /**
+     * @param scale minimal possible value of the distribution
+     * @param shape tail index (alpha), the bigger the value the lighter the tail
+     */
+    public ParetoSampler(RandomService randomService, double scale, double shape) {
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("Scale should be a positive number, but was " + scale);
+        }
+        if (!(shape > 0) || Double.isInfinite(shape)) {
+            throw new IllegalArgumentException("Shape should be a positive number, but was " + shape);
+        }
+        this.randomService = randomService;
+        this.scale = scale;
+        this.inverseShape = 1 / shape;
+    }
+
+    @Override
+    public double sample() {
+        return scale * Math.exp(inverseShape * ExponentialSampler.standardExponential(randomService));
+    }
+}
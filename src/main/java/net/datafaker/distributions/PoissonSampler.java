@@ -0,0 +1,96 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Poisson distribution sampler.
+ * <p>
+ * Small means use multiplication of uniforms (Knuth), big means use the
+ * transformed rejection method PTRS of Hörmann which needs about two uniforms per sample
+ * independently of the mean.
+ */
+public class PoissonSampler implements LongSampler {
+    private static final double PTRS_THRESHOLD = 10;
+    private static final int LOG_FACTORIAL_TABLE_SIZE = 256;
+    private static final double[] LOG_FACTORIAL = new double[LOG_FACTORIAL_TABLE_SIZE];
+
+    static {
+        for (int i = 1; i < LOG_FACTORIAL_TABLE_SIZE; i++) {
+            LOG_FACTORIAL[i] = LOG_FACTORIAL[i - 1] + Math.log(i);
+        }
+    }
+
+    private final RandomService randomService;
+    private final double mean;
+    // Knuth
+    private final double expMinusMean;
+    // PTRS
+    private final double logMean;
+    private final double a;
+    private final double b;
+    private final double inverseAlpha;
+    private final double vr;
+
+    public PoissonSampler(RandomService randomService, double mean) {
+        if (!(mean > 0) || Double.isInfinite(mean)) {
+            throw new IllegalArgumentException("Mean should be a positive number, but was " + mean);
+        }
+        this.randomService = randomService;
+        this.mean = mean;
+        this.expMinusMean = Math.exp(-mean);
+        this.logMean = Math.log(mean);
+        this.b = 0.931 + 2.53 * Math.sqrt(mean);
+        this.a = -0.059 + 0.02483 * b;
+        this.inverseAlpha = 1.1239 + 1.1328 / (b - 3.4);
+        this.vr = 0.9277 - 3.6224 / (b - 2);
+    }
+
+    @Override
+    public long sample() {
+        return mean < PTRS_THRESHOLD ? knuth() : ptrs();
+    }
+
+    private long knuth() {
+        long k = 0;
+        double product = randomService.nextDouble();
+        while (product > expMinusMean) {
+            k++;
+            product *= randomService.nextDouble();
+        }
+        return k;
+    }
+
+    private long ptrs() {
+        final double logInverseAlpha = Math.log(inverseAlpha);
+        for (; ; ) {
+            final double u = randomService.nextDouble() - 0.5;
+            final double v = randomService.nextDouble();
+            final double us = 0.5 - Math.abs(u);
+            final long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return k;
+            }
+            if (k < 0 || us < 0.013 && v > us) {
+                continue;
+            }
+            if (Math.log(v) + logInverseAlpha - Math.log(a / (us * us) + b) <= -mean + k * logMean - logFactorial(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * @return natural logarithm of {@code k!}
+     */
+    static double logFactorial(long k) {
+        if (k < LOG_FACTORIAL_TABLE_SIZE) {
+            return LOG_FACTORIAL[(int) k];
+        }
+        // Stirling's series, precise enough for k >= 256
+        final double x = k;
+        final double inverse = 1 / x;
+        final double inverse2 = inverse * inverse;
+        return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x)
+            + inverse * (1.0 / 12 - inverse2 * (1.0 / 360 - inverse2 / 1260));
+    }
+}
@@ -0,0 +1,111 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * Zipf (discrete power law) distribution sampler over ranks {@code 1..numberOfElements}:
+ * the probability of rank {@code k} is proportional to {@code 1 / k^exponent}.
+ * <p>
+ * Up to {@link #TABLE_THRESHOLD} elements the probabilities are precomputed into an {@link AliasTable},
+ * so a sample is O(1) with two random draws. Bigger ranges use the rejection-inversion method
+ * of Hörmann and Derflinger which needs no table and a bit more than one uniform per sample on average.
+ * <p>
+ * Building the table is O(numberOfElements), so create the sampler once and reuse it.
+ */
+public class ZipfSampler implements IntSampler {
+    /**
+     * Maximum number of elements for which the alias table is precomputed.
+     */
+    public static final int TABLE_THRESHOLD = 1 << 20;
+
+    private final RandomService randomService;
+    private final int numberOfElements;
+    private final double exponent;
+    private final AliasTable aliasTable;
+    // rejection-inversion
+    private final double hIntegralX1;
+    private final double hIntegralNumberOfElements;
+    private final double s;
+
+    public ZipfSampler(RandomService randomService, int numberOfElements, double exponent) {
+        if (numberOfElements <= 0) {
+            throw new IllegalArgumentException("Number of elements should be positive, but was " + numberOfElements);
+        }
+        if (!(exponent > 0) || Double.isInfinite(exponent)) {
+            throw new IllegalArgumentException("Exponent should be a positive number, but was " + exponent);
+        }
+        this.randomService = randomService;
+        this.numberOfElements = numberOfElements;
+        this.exponent = exponent;
+        if (numberOfElements <= TABLE_THRESHOLD) {
+            final double[] weights = new double[numberOfElements];
+            for (int i = 0; i < numberOfElements; i++) {
+                weights[i] = Math.pow(i + 1, -exponent);
+            }
+            this.aliasTable = new AliasTable(weights);
+            this.hIntegralX1 = 0;
+            this.hIntegralNumberOfElements = 0;
+            this.s = 0;
+        } else {
+            this.aliasTable = null;
+            this.hIntegralX1 = hIntegral(1.5) - 1;
+            this.hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+            this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+    }
+
+    /**
+     * @return a rank from 1 (the most frequent) to {@code numberOfElements} (inclusive)
+     */
+    @Override
+    public int sample() {
+        if (aliasTable != null) {
+            return aliasTable.sample(randomService) + 1;
+        }
+        for (; ; ) {
+            final double u = hIntegralNumberOfElements
+                + randomService.nextDouble() * (hIntegralX1 - hIntegralNumberOfElements);
+            final double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > numberOfElements) {
+                k = numberOfElements;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double hIntegral(double x) {
+        final double logX = Math.log(x);
+        return helper2((1 - exponent) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1 - exponent);
+        if (t < -1) {
+            t = -1;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    /**
+     * @return {@code log(1 + x) / x}, precise also for small x
+     */
+    private static double helper1(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    /**
+     * @return {@code (exp(x) - 1) / x}, precise also for small x
+     */
+    private static double helper2(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+}
@@ -4,6 +4,7 @@
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Date;
 
 /**
@@ -14,6 +15,7 @@
 public class EnZAIdNumber {
 
     private static final String[] validPattern = {"##########08#", "##########18#"};
+    private static final IdNumberFormat VALID = IdNumberFormats.enZa(LocalDate.of(1921, 1, 1), LocalDate.of(2020, 12, 31));
 
     /**
      * Generate a valid social security number on faker
@@ -22,14 +24,7 @@ public class EnZAIdNumber {
      * @return a valid social security number on faker
      */
     public String getValidSsn(Faker f) {
-
-        String ssn = "";
-        while (!validSsn(ssn)) {
-            String pattern = getPattern(f);
-            ssn = f.numerify(pattern);
-        }
-        return ssn;
-
+        return VALID.random(f.random());
     }
 
     /**
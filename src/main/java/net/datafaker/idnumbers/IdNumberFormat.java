@@ -0,0 +1,85 @@
+package net.datafaker.idnumbers;
+
+import net.datafaker.service.RandomService;
+
+/**
+ * A numbering of all valid identifiers of one kind: every index from 0 to {@link #size()} - 1
+ * is mapped to a distinct valid identifier, including its check digits.
+ * <p>
+ * An identifier is built directly from its index, so a random identifier is a random index
+ * and unique identifiers are a permutation of the indexes, see {@link IdNumberGenerator}.
+ * Formats are immutable and thread safe, see {@link IdNumberFormats} for the available ones.
+ */
+public abstract class IdNumberFormat {
+
+    /**
+     * @return number of characters of every identifier
+     */
+    public abstract int length();
+
+    /**
+     * @return number of distinct identifiers
+     */
+    public abstract long size();
+
+    /**
+     * Writes the identifier with the given index to {@code dest[offset]..dest[offset + length() - 1]}.
+     *
+     * @return the offset right after the identifier
+     */
+    public int write(long index, char[] dest, int offset) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of range [0, " + size() + ")");
+        }
+        if (offset < 0 || offset + length() > dest.length) {
+            throw new IndexOutOfBoundsException("Not enough space for an identifier at offset " + offset);
+        }
+        writeUnchecked(index, dest, offset);
+        return offset + length();
+    }
+
+    /**
+     * @return the identifier with the given index
+     */
+    public String get(long index) {
+        final char[] buffer = new char[length()];
+        write(index, buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * @return a random identifier
+     */
+    public String random(RandomService random) {
+        return get(nextIndex(random, size()));
+    }
+
+    /**
+     * Writes the identifier with an index which is already validated.
+     */
+    protected abstract void writeUnchecked(long index, char[] dest, int offset);
+
+    /**
+     * Writes {@code value} as exactly {@code digits} digits, padded with leading zeros.
+     */
+    protected static void writeDigits(long value, int digits, char[] dest, int offset) {
+        long rest = value;
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            dest[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+    }
+
+    /**
+     * Uniform long from 0 (inclusive) to {@code bound} (exclusive) from the seeded source of the random service.
+     */
+    static long nextIndex(RandomService random, long bound) {
+        long bits;
+        long value;
+        do {
+            bits = random.nextLong() >>> 1;
+            value = bits % bound;
+        } while (bits - value + (bound - 1) < 0);
+        return value;
+    }
+}
@@ -0,0 +1,479 @@
+package net.datafaker.idnumbers;
+
+import net.datafaker.CheckDigits;
+import net.datafaker.idnumbers.PeselNumber.Gender;
+
+import java.time.LocalDate;
+
+/**
+ * Factories of {@link IdNumberFormat}s.
+ * <p>
+ * Formats with a birth date cover all dates from {@code from} to {@code to} (both inclusive).
+ * Formats with a two digit year are limited to date ranges where no two dates share the same digits.
+ */
+public final class IdNumberFormats {
+    private static final IdNumberFormat EN_SSN = new EnSsn();
+    private static final IdNumberFormat CPF = new Cpf(false);
+    private static final IdNumberFormat CPF_FORMATTED = new Cpf(true);
+    private static final IdNumberFormat CNPJ = new Cnpj(false);
+    private static final IdNumberFormat CNPJ_FORMATTED = new Cnpj(true);
+
+    private IdNumberFormats() {
+    }
+
+    /**
+     * US social security numbers {@code AAA-GG-SSSS} without area 000, 666 and 900-999, group 00 and serial 0000.
+     */
+    public static IdNumberFormat enSsn() {
+        return EN_SSN;
+    }
+
+    /**
+     * Polish PESEL numbers of people born between 1800 and 2299.
+     *
+     * @param gender null means {@link Gender#ANY}
+     */
+    public static IdNumberFormat pesel(LocalDate from, LocalDate to, Gender gender) {
+        return new Pesel(from, to, gender == null ? Gender.ANY : gender);
+    }
+
+    /**
+     * Swedish personal identity numbers {@code YYMMDD-NNNC}, the separator is '+' for people who are
+     * at least 100 years old at {@code to}. The range should be shorter than 200 years.
+     */
+    public static IdNumberFormat svSe(LocalDate from, LocalDate to) {
+        return new SvSe(from, to);
+    }
+
+    /**
+     * South African identity numbers {@code YYMMDDSSSSC8Z}. The range should be shorter than 100 years.
+     */
+    public static IdNumberFormat enZa(LocalDate from, LocalDate to) {
+        return new EnZa(from, to);
+    }
+
+    /**
+     * Chinese resident identity numbers (GB 11643): 6 digit address code, birth date {@code yyyyMMdd},
+     * 3 digit sequence number and the ISO 7064 MOD 11-2 check character, {@code 0-9} or {@code X}.
+     */
+    public static IdNumberFormat zhCn(LocalDate from, LocalDate to) {
+        return new ZhCn(from, to);
+    }
+
+    /**
+     * Mexican CURP, the differentiator is a digit for people born before 2000 and a letter since 2000.
+     */
+    public static IdNumberFormat esMx(LocalDate from, LocalDate to) {
+        return new EsMx(from, to);
+    }
+
+    /**
+     * Brazilian CPF numbers, {@code ###.###.###-##} if formatted.
+     */
+    public static IdNumberFormat cpf(boolean formatted) {
+        return formatted ? CPF_FORMATTED : CPF;
+    }
+
+    /**
+     * Brazilian CNPJ numbers of head offices, {@code ##.###.###/0001-##} if formatted.
+     */
+    public static IdNumberFormat cnpj(boolean formatted) {
+        return formatted ? CNPJ_FORMATTED : CNPJ;
+    }
+
+    private static long days(LocalDate from, LocalDate to, int maxYears) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Date " + from + " is after " + to);
+        }
+        if (maxYears > 0 && !to.isBefore(from.plusYears(maxYears))) {
+            throw new IllegalArgumentException("Dates from " + from + " to " + to + " span " + maxYears + " years or more");
+        }
+        return to.toEpochDay() - from.toEpochDay() + 1;
+    }
+
+    private static void writeYyMmDd(LocalDate date, char[] dest, int offset) {
+        IdNumberFormat.writeDigits(date.getYear() % 100, 2, dest, offset);
+        IdNumberFormat.writeDigits(date.getMonthValue(), 2, dest, offset + 2);
+        IdNumberFormat.writeDigits(date.getDayOfMonth(), 2, dest, offset + 4);
+    }
+
+    private static long yyMmDd(LocalDate date) {
+        return (date.getYear() % 100) * 10_000L + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * Writes {@code value} into the '#' characters of {@code mask} from the right, other characters are copied.
+     */
+    private static void writeMasked(long value, String mask, char[] dest, int offset) {
+        long rest = value;
+        for (int i = mask.length() - 1; i >= 0; i--) {
+            final char c = mask.charAt(i);
+            if (c == '#') {
+                dest[offset + i] = (char) ('0' + rest % 10);
+                rest /= 10;
+            } else {
+                dest[offset + i] = c;
+            }
+        }
+    }
+
+    /**
+     * The check digit of CPF and CNPJ numbers for a weighted sum.
+     */
+    private static int mod11(int sum) {
+        final int mod = sum % 11;
+        return mod < 2 ? 0 : 11 - mod;
+    }
+
+    private static final class EnSsn extends IdNumberFormat {
+        private static final int AREAS = 898;
+        private static final int GROUPS = 99;
+        private static final int SERIALS = 9999;
+
+        @Override
+        public int length() {
+            return 11;
+        }
+
+        @Override
+        public long size() {
+            return (long) AREAS * GROUPS * SERIALS;
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            final int serial = (int) (index % SERIALS) + 1;
+            final long rest = index / SERIALS;
+            final int group = (int) (rest % GROUPS) + 1;
+            int area = (int) (rest / GROUPS) + 1;
+            if (area >= 666) {
+                area++;
+            }
+            writeDigits(area, 3, dest, offset);
+            dest[offset + 3] = '-';
+            writeDigits(group, 2, dest, offset + 4);
+            dest[offset + 6] = '-';
+            writeDigits(serial, 4, dest, offset + 7);
+        }
+    }
+
+    private static final class Pesel extends IdNumberFormat {
+        private static final int[] WEIGHTS = {1, 3, 7, 9, 1, 3, 7, 9, 1, 3};
+
+        private final long fromDay;
+        private final long days;
+        private final Gender gender;
+        private final int genderDigits;
+
+        Pesel(LocalDate from, LocalDate to, Gender gender) {
+            if (from.getYear() < 1800) {
+                throw new IllegalArgumentException("Year is before 1800");
+            }
+            if (to.getYear() >= 2300) {
+                throw new IllegalArgumentException("Year is after 2300");
+            }
+            this.fromDay = from.toEpochDay();
+            this.days = days(from, to, 0);
+            this.gender = gender;
+            this.genderDigits = gender == Gender.ANY ? 10 : 5;
+        }
+
+        @Override
+        public int length() {
+            return PeselNumber.PESEL_LENGTH;
+        }
+
+        @Override
+        public long size() {
+            return days * 1000 * genderDigits;
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            final int serial = (int) (index % 1000);
+            final long rest = index / 1000;
+            int genderDigit = (int) (rest % genderDigits);
+            if (gender == Gender.FEMALE) {
+                genderDigit *= 2;
+            } else if (gender == Gender.MALE) {
+                genderDigit = genderDigit * 2 + 1;
+            }
+            final LocalDate date = LocalDate.ofEpochDay(fromDay + rest / genderDigits);
+            final int year = date.getYear();
+            writeDigits(year % 100, 2, dest, offset);
+            writeDigits(date.getMonthValue() + (year / 100 - 19 + 5) % 5 * 20, 2, dest, offset + 2);
+            writeDigits(date.getDayOfMonth(), 2, dest, offset + 4);
+            writeDigits(serial, 3, dest, offset + 6);
+            dest[offset + 9] = (char) ('0' + genderDigit);
+            int sum = 0;
+            for (int i = 0; i < WEIGHTS.length; i++) {
+                sum += (dest[offset + i] - '0') * WEIGHTS[i];
+            }
+            dest[offset + 10] = (char) ('0' + (10 - sum % 10) % 10);
+        }
+    }
+
+    private static final class SvSe extends IdNumberFormat {
+        private final long fromDay;
+        private final long days;
+        private final long lastCentenarianDay;
+
+        SvSe(LocalDate from, LocalDate to) {
+            this.fromDay = from.toEpochDay();
+            this.days = days(from, to, 200);
+            this.lastCentenarianDay = to.minusYears(100).toEpochDay();
+        }
+
+        @Override
+        public int length() {
+            return 11;
+        }
+
+        @Override
+        public long size() {
+            return days * 1000;
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            final int serial = (int) (index % 1000);
+            final long day = fromDay + index / 1000;
+            final LocalDate date = LocalDate.ofEpochDay(day);
+            writeYyMmDd(date, dest, offset);
+            dest[offset + 6] = day <= lastCentenarianDay ? '+' : '-';
+            writeDigits(CheckDigits.withLuhn(yyMmDd(date) * 1000 + serial), 4, dest, offset + 7);
+        }
+    }
+
+    private static final class EnZa extends IdNumberFormat {
+        private final long fromDay;
+        private final long days;
+
+        EnZa(LocalDate from, LocalDate to) {
+            this.fromDay = from.toEpochDay();
+            this.days = days(from, to, 100);
+        }
+
+        @Override
+        public int length() {
+            return 13;
+        }
+
+        @Override
+        public long size() {
+            return days * 10_000 * 2;
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            final int sequence = (int) (index % 10_000);
+            final long rest = index / 10_000;
+            final int citizenship = (int) (rest % 2);
+            final LocalDate date = LocalDate.ofEpochDay(fromDay + rest / 2);
+            final long payload = ((yyMmDd(date) * 10_000 + sequence) * 10 + citizenship) * 10 + 8;
+            writeDigits(CheckDigits.withLuhn(payload), 13, dest, offset);
+        }
+    }
+
+    private static final class ZhCn extends IdNumberFormat {
+        private static final int[] WEIGHTS = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+        private static final String CHECK_CHARACTERS = "10X98765432";
+
+        private final long fromDay;
+        private final long days;
+
+        ZhCn(LocalDate from, LocalDate to) {
+            if (from.getYear() < 1000 || to.getYear() > 9999) {
+                throw new IllegalArgumentException("Years should have 4 digits but were " + from + " and " + to);
+            }
+            this.fromDay = from.toEpochDay();
+            this.days = days(from, to, 0);
+        }
+
+        @Override
+        public int length() {
+            return 18;
+        }
+
+        @Override
+        public long size() {
+            return days * ZhCnIdNumber.LOCATIONS.length * 1000;
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            final int sequence = (int) (index % 1000);
+            final long rest = index / 1000;
+            final String location = ZhCnIdNumber.LOCATIONS[(int) (rest % ZhCnIdNumber.LOCATIONS.length)];
+            final LocalDate date = LocalDate.ofEpochDay(fromDay + rest / ZhCnIdNumber.LOCATIONS.length);
+            location.getChars(0, 6, dest, offset);
+            writeDigits(date.getYear(), 4, dest, offset + 6);
+            writeDigits(date.getMonthValue(), 2, dest, offset + 10);
+            writeDigits(date.getDayOfMonth(), 2, dest, offset + 12);
+            writeDigits(sequence, 3, dest, offset + 14);
+            int sum = 0;
+            for (int i = 0; i < WEIGHTS.length; i++) {
+                sum += (dest[offset + i] - '0') * WEIGHTS[i];
+            }
+            dest[offset + 17] = CHECK_CHARACTERS.charAt(sum % 11);
+        }
+    }
+
+    private static final class EsMx extends IdNumberFormat {
+        private static final char[] CONSONANTS = "BCDFGHJKLMNPQRSTVWXYZ".toCharArray();
+        private static final char[] VOWELS = "AEIOU".toCharArray();
+        private static final char[] SEXES = {'H', 'M'};
+        private static final String[] STATES = {"AG", "BC", "BS", "CM", "CS",
+            "CH", "CO", "CL", "DF", "DG", "GT", "GR",
+            "HG", "JA", "EM", "MI", "MO", "NA", "NL",
+            "OA", "PU", "QT", "QR", "SL", "SI", "SO",
+            "TB", "TM", "TL", "VE", "YU", "ZA", "NE"};
+        private static final int DIGIT_DIFFERENTIATORS = 10;
+        private static final int LETTER_DIFFERENTIATORS = 26;
+        private static final long NAMES = (long) CONSONANTS.length * VOWELS.length * CONSONANTS.length * CONSONANTS.length
+            * SEXES.length * STATES.length * CONSONANTS.length * CONSONANTS.length * CONSONANTS.length;
+        private static final long FIRST_DAY_OF_2000 = LocalDate.of(2000, 1, 1).toEpochDay();
+
+        private final long fromDay;
+        // dates before 2000 have a digit as differentiator, the later ones a letter
+        private final long daysBefore2000;
+        private final long daysSince2000;
+
+        EsMx(LocalDate from, LocalDate to) {
+            final long days = days(from, to, 0);
+            this.fromDay = from.toEpochDay();
+            this.daysBefore2000 = Math.max(0, Math.min(days, FIRST_DAY_OF_2000 - fromDay));
+            this.daysSince2000 = days - daysBefore2000;
+        }
+
+        @Override
+        public int length() {
+            return 18;
+        }
+
+        @Override
+        public long size() {
+            return NAMES * (daysBefore2000 * DIGIT_DIFFERENTIATORS + daysSince2000 * LETTER_DIFFERENTIATORS);
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            long rest = index % NAMES;
+            for (int i = 15; i >= 13; i--) {
+                dest[offset + i] = CONSONANTS[(int) (rest % CONSONANTS.length)];
+                rest /= CONSONANTS.length;
+            }
+            STATES[(int) (rest % STATES.length)].getChars(0, 2, dest, offset + 11);
+            rest /= STATES.length;
+            dest[offset + 10] = SEXES[(int) (rest % SEXES.length)];
+            rest /= SEXES.length;
+            dest[offset + 3] = CONSONANTS[(int) (rest % CONSONANTS.length)];
+            rest /= CONSONANTS.length;
+            dest[offset + 2] = CONSONANTS[(int) (rest % CONSONANTS.length)];
+            rest /= CONSONANTS.length;
+            dest[offset + 1] = VOWELS[(int) (rest % VOWELS.length)];
+            dest[offset] = CONSONANTS[(int) (rest / VOWELS.length)];
+
+            final long dateIndex = index / NAMES;
+            final long day;
+            if (dateIndex < daysBefore2000 * DIGIT_DIFFERENTIATORS) {
+                day = fromDay + dateIndex / DIGIT_DIFFERENTIATORS;
+                dest[offset + 16] = (char) ('0' + dateIndex % DIGIT_DIFFERENTIATORS);
+            } else {
+                final long since2000 = dateIndex - daysBefore2000 * DIGIT_DIFFERENTIATORS;
+                day = fromDay + daysBefore2000 + since2000 / LETTER_DIFFERENTIATORS;
+                dest[offset + 16] = (char) ('A' + since2000 % LETTER_DIFFERENTIATORS);
+            }
+            writeYyMmDd(LocalDate.ofEpochDay(day), dest, offset + 4);
+
+            int sum = 0;
+            for (int i = 0; i < 17; i++) {
+                sum += value(dest[offset + i]) * (18 - i);
+            }
+            dest[offset + 17] = (char) ('0' + (10 - sum % 10) % 10);
+        }
+
+        /**
+         * Position of the character in "0123456789ABCDEFGHIJKLMNÑOPQRSTUVWXYZ".
+         */
+        private static int value(char c) {
+            if (c <= '9') {
+                return c - '0';
+            }
+            return c <= 'N' ? c - 'A' + 10 : c - 'A' + 11;
+        }
+    }
+
+    private static final class Cpf extends IdNumberFormat {
+        private final String mask;
+
+        Cpf(boolean formatted) {
+            this.mask = formatted ? "###.###.###-##" : "###########";
+        }
+
+        @Override
+        public int length() {
+            return mask.length();
+        }
+
+        @Override
+        public long size() {
+            return 1_000_000_000L;
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            // the first check digit weights the digits 10..2 from the left, the second one 11..3
+            int sum1 = 0;
+            int digitSum = 0;
+            long rest = index;
+            for (int weight = 2; weight <= 10; weight++) {
+                final int digit = (int) (rest % 10);
+                sum1 += digit * weight;
+                digitSum += digit;
+                rest /= 10;
+            }
+            final int d1 = mod11(sum1);
+            final int d2 = mod11(sum1 + digitSum + d1 * 2);
+            writeMasked(index * 100 + d1 * 10 + d2, mask, dest, offset);
+        }
+    }
+
+    private static final class Cnpj extends IdNumberFormat {
+        private static final int[] WEIGHTS_1 = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+        private static final int[] WEIGHTS_2 = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3};
+
+        private final String mask;
+
+        Cnpj(boolean formatted) {
+            this.mask = formatted ? "##.###.###/####-##" : "##############";
+        }
+
+        @Override
+        public int length() {
+            return mask.length();
+        }
+
+        @Override
+        public long size() {
+            return 100_000_000L;
+        }
+
+        @Override
+        protected void writeUnchecked(long index, char[] dest, int offset) {
+            final long base = index * 10_000 + 1;
+            int sum1 = 0;
+            int sum2 = 0;
+            long rest = base;
+            for (int i = 11; i >= 0; i--) {
+                final int digit = (int) (rest % 10);
+                sum1 += digit * WEIGHTS_1[i];
+                sum2 += digit * WEIGHTS_2[i];
+                rest /= 10;
+            }
+            final int d1 = mod11(sum1);
+            final int d2 = mod11(sum2 + d1 * 2);
+            writeMasked(base * 100 + d1 * 10 + d2, mask, dest, offset);
+        }
+    }
+}
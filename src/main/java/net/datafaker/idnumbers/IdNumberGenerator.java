@@ -0,0 +1,88 @@
+package net.datafaker.idnumbers;
+
+import net.datafaker.service.Permutation;
+import net.datafaker.service.RandomService;
+
+import java.nio.CharBuffer;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Generates identifiers of one {@link IdNumberFormat} in bulk.
+ * <p>
+ * In unique mode the indexes of the identifiers are a random {@link Permutation},
+ * so no identifier is returned twice while nothing but a counter is kept.
+ * A generator is not thread safe, create one generator per thread.
+ */
+public final class IdNumberGenerator {
+    private final IdNumberFormat format;
+    private final RandomService random;
+    private final Permutation permutation;
+    private long next;
+
+    /**
+     * @param unique if true the generator never returns the same identifier twice
+     * @throws IllegalArgumentException if unique identifiers are requested for a format with more than 2^62 of them
+     */
+    public IdNumberGenerator(IdNumberFormat format, RandomService random, boolean unique) {
+        this.format = format;
+        this.random = random;
+        this.permutation = unique ? new Permutation(format.size(), random) : null;
+    }
+
+    public IdNumberFormat format() {
+        return format;
+    }
+
+    /**
+     * @return how many identifiers can still be generated, {@link Long#MAX_VALUE} if they are not unique
+     */
+    public long remaining() {
+        return permutation == null ? Long.MAX_VALUE : permutation.size() - next;
+    }
+
+    public String next() {
+        final char[] buffer = new char[format.length()];
+        next(buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Writes the next identifier to {@code dest[offset]..dest[offset + format().length() - 1]}.
+     *
+     * @return the offset right after the identifier
+     * @throws NoSuchElementException if all unique identifiers are used
+     */
+    public int next(char[] dest, int offset) {
+        return format.write(nextIndex(), dest, offset);
+    }
+
+    /**
+     * Passes {@code count} identifiers to the sink.
+     * The sink gets the same buffer every time, call {@code toString()} to keep an identifier.
+     *
+     * @throws IllegalArgumentException if fewer than {@code count} unique identifiers are left
+     */
+    public void generate(long count, Consumer<? super CharSequence> sink) {
+        if (count < 0 || count > remaining()) {
+            throw new IllegalArgumentException("Cannot generate " + count + " identifiers, " + remaining() + " are left");
+        }
+        final char[] buffer = new char[format.length()];
+        final CharBuffer view = CharBuffer.wrap(buffer);
+        for (long i = 0; i < count; i++) {
+            format.writeUnchecked(nextIndex(), buffer, 0);
+            view.clear();
+            sink.accept(view);
+        }
+    }
+
+    private long nextIndex() {
+        if (permutation == null) {
+            return IdNumberFormat.nextIndex(random, format.size());
+        }
+        if (next >= permutation.size()) {
+            throw new NoSuchElementException("All " + permutation.size() + " unique identifiers are used");
+        }
+        return permutation.apply(next++);
+    }
+}
@@ -4,6 +4,7 @@
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Date;
 
 /**
@@ -14,15 +15,10 @@
  */
 public class SvSEIdNumber {
     private static final String[] validPatterns = {"######-####", "######+####"};
+    private static final IdNumberFormat VALID = IdNumberFormats.svSe(LocalDate.of(1900, 1, 1), LocalDate.of(2020, 12, 31));
 
     public String getValidSsn(Faker f) {
-        String candidate = "";
-        while (!validSwedishSsn(candidate)) {
-            String pattern = getPattern(f);
-            candidate = f.numerify(pattern);
-        }
-
-        return candidate;
+        return VALID.random(f.random());
     }
 
     public String getInvalidSsn(Faker f) {
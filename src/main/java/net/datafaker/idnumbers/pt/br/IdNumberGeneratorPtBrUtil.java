@@ -1,6 +1,7 @@
 package net.datafaker.idnumbers.pt.br;
 
 import net.datafaker.Faker;
+import net.datafaker.idnumbers.IdNumberFormats;
 
 public final class IdNumberGeneratorPtBrUtil {
 
@@ -14,30 +15,16 @@ private IdNumberGeneratorPtBrUtil() {
      * @param valid     a cnpj (in)valid
      */
     public static String cnpj(Faker faker, boolean formatted, boolean valid) {
-        String cnpj;
-
         if (valid) {
-            StringBuilder partial = new StringBuilder();
-            for (int i = 0; i < 8; i++) {
-                partial.append(faker.random().nextInt(9));
-            }
-
-            cnpj = partial.append("0001").toString();
-
-            int d1 = digit(calculateWeight(cnpj.substring(4, 12), 9) + calculateWeight(cnpj.substring(0, 4), 5));
-            int d2 = digit((d1 * 2) + calculateWeight(cnpj.substring(5, 12), 9) + calculateWeight(cnpj.substring(0, 5), 6));
-
-            cnpj = (cnpj + d1) + d2;
-        } else {
-            cnpj = String.valueOf(faker.random().nextInt(1000000000) + (faker.random().nextInt(90) + 10) * 1000000000000L);
+            return IdNumberFormats.cnpj(formatted).random(faker.random());
         }
+        String cnpj = String.valueOf(faker.random().nextInt(1000000000) + (faker.random().nextInt(90) + 10) * 1000000000000L);
 
         String result = (formatted) ? DocumentFormatterUtil.cnpj(cnpj) : cnpj;
 
-        // Sometimes the generated number is not what you expected, for example, you expected an invalid number,
-        // but the generated number is valid. This fixes the issue by generating a new number until it matches the expectation.
-        if (isCNPJValid(result) != valid) {
-            result = cnpj(faker, formatted, valid);
+        // Sometimes the generated number is valid by chance. This fixes the issue by generating a new number.
+        if (isCNPJValid(result)) {
+            result = cnpj(faker, formatted, false);
         }
 
         return result;
@@ -50,28 +37,16 @@ public static String cnpj(Faker faker, boolean formatted, boolean valid) {
      * @param valid     a CPF (in)valid
      */
     public static String cpf(Faker faker, boolean formatted, boolean valid) {
-        String cpf;
         if (valid) {
-            StringBuilder partial = new StringBuilder();
-            for (int i = 0; i < 9; i++) {
-                partial.append(faker.random().nextInt(9));
-            }
-            cpf = partial.toString();
-
-            int d1 = digit(calculateWeight(cpf, 10));
-            int d2 = digit((d1 * 2) + calculateWeight(cpf, 11));
-
-            cpf = (cpf + d1) + d2;
-        } else {
-            cpf = String.valueOf(faker.random().nextInt(1000000000) + (faker.random().nextInt(90) + 10) * 1000000000L);
+            return IdNumberFormats.cpf(formatted).random(faker.random());
         }
+        String cpf = String.valueOf(faker.random().nextInt(1000000000) + (faker.random().nextInt(90) + 10) * 1000000000L);
 
         String result = formatted ? DocumentFormatterUtil.cpf(cpf) : cpf;
 
-        if (isCPFValid(result) != valid) {
-            // Sometimes the generated number is not what you expected, for example, you expected an invalid number,
-            // but the generated number is valid. This fixes the issue by generating a new number until it matches the expectation.
-            result = cpf(faker, formatted, valid);
+        if (isCPFValid(result)) {
+            // Sometimes the generated number is valid by chance. This fixes the issue by generating a new number.
+            result = cpf(faker, formatted, false);
         }
 
         return result;
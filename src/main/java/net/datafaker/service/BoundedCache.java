@@ -0,0 +1,173 @@
+package net.datafaker.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread safe cache keeping at most {@code capacity} entries, evicting the least recently used ones.
+ * <p>
+ * The entries are spread over up to 16 segments by hash, each one an access ordered {@link LinkedHashMap}
+ * guarded by its own lock, so the eviction order is LRU per segment. Eviction only depends on the sequence of
+ * calls, never on the garbage collector, so seeded fakers stay reproducible.
+ * <p>
+ * The capacity of a named cache can be set with the system property {@code datafaker.cache.<name>.capacity},
+ * e.g. {@code -Ddatafaker.cache.regexes.capacity=0} disables the cache of compiled regexes.
+ */
+public final class BoundedCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 256;
+
+    private final String name;
+    private final int capacity;
+    private final Segment<K, V>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity the maximum number of entries, {@code 0} to disable caching
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BoundedCache(String name, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity of cache " + name + " should be non negative: " + capacity);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        final int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, capacity / MIN_SEGMENT_CAPACITY)));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * @return the capacity set by the system property {@code datafaker.cache.<name>.capacity},
+     * {@code defaultCapacity} if not set
+     */
+    static int capacity(String name, int defaultCapacity) {
+        return Integer.getInteger("datafaker.cache." + name + ".capacity", defaultCapacity);
+    }
+
+    /**
+     * @return the cached value, {@code null} if none, counted as a hit or a miss
+     */
+    public V get(K key) {
+        final Segment<K, V> segment = segment(key);
+        final V value;
+        synchronized (segment) {
+            value = segment.map.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached value, or computes and caches it. The value is computed outside of any lock,
+     * so concurrent misses may compute it more than once.
+     *
+     * @param loader computes the value, should not return {@code null}
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        final Segment<K, V> segment = segment(key);
+        if (segment.capacity == 0) {
+            return;
+        }
+        synchronized (segment) {
+            segment.map.put(key, value);
+            if (segment.map.size() > segment.capacity) {
+                final Iterator<K> eldest = segment.map.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the entries, the counters are kept.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the share of hits among the lookups, {@code 0} if there was none
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    private Segment<K, V> segment(K key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ hash >>> 16) & segments.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s: size=%d/%d hits=%d misses=%d evictions=%d hitRate=%.3f",
+            name, size(), capacity, getHitCount(), getMissCount(), getEvictionCount(), getHitRate());
+    }
+
+    private static final class Segment<K, V> {
+        private final int capacity;
+        private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+}
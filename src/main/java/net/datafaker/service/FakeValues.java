@@ -1,26 +1,32 @@
 package net.datafaker.service;
 
-import org.yaml.snakeyaml.Yaml;
-
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class FakeValues implements FakeValuesInterface {
     private static final Logger LOG = Logger.getLogger("faker");
+    /**
+     * Logs every parsed YAML file and how long parsing took, e.g. {@code -Ddatafaker.profile.loading=true}.
+     */
+    private static final boolean PROFILE_LOADING = Boolean.getBoolean("datafaker.profile.loading");
     private final Locale locale;
     private final String filename;
     private final String path;
     private final Path filePath;
-    private Map<String, Object> values;
+    private volatile Map<String, Object> values;
 
     FakeValues(Locale locale) {
         this(locale, getFilename(locale), getFilename(locale), null);
@@ -67,11 +73,56 @@ private static String language(Locale l) {
 
     @Override
     public Map<String, Object> get(String key) {
-        if (values == null) {
-            values = loadValues();
+        return (Map) section(key);
+    }
+
+    private Object section(String key) {
+        final Map<String, Object> values = values();
+        final Object value = values == null ? null : values.get(key);
+        return value instanceof YamlSections.Section ? ((YamlSections.Section) value).get() : value;
+    }
+
+    /**
+     * Parses a section of a large file, see {@link YamlSections}.
+     */
+    void preload(String section) {
+        section(section);
+    }
+
+    /**
+     * @return whether the section was parsed, without loading the file
+     */
+    boolean isParsed(String section) {
+        final Map<String, Object> values = this.values;
+        if (values == null || !values.containsKey(section)) {
+            return false;
         }
+        final Object value = values.get(section);
+        return !(value instanceof YamlSections.Section) || ((YamlSections.Section) value).isParsed();
+    }
+
+    /**
+     * Loads the file if not done yet.
+     *
+     * @return the names of the sections of the file, parsed or not
+     */
+    Set<String> sections() {
+        final Map<String, Object> values = values();
+        return values == null ? Collections.emptySet() : values.keySet();
+    }
 
-        return values == null ? null : (Map) values.get(key);
+    private Map<String, Object> values() {
+        Map<String, Object> result = values;
+        if (result == null) {
+            synchronized (this) {
+                result = values;
+                if (result == null) {
+                    result = loadValues();
+                    values = result;
+                }
+            }
+        }
+        return result;
     }
 
     private Map<String, Object> loadFromFilePath() {
@@ -79,7 +130,7 @@ private Map<String, Object> loadFromFilePath() {
             return null;
         }
         try (InputStream stream = Files.newInputStream(filePath)) {
-            return readFromStream(stream);
+            return readFromStream(stream, filePath.toString());
         } catch (IOException e) {
             LOG.log(Level.SEVERE, "Exception: ", e);
         }
@@ -97,10 +148,10 @@ private Map<String, Object> loadValues() {
         for (String path : paths) {
             try (InputStream stream = getClass().getResourceAsStream(path)) {
                 if (stream != null) {
-                    result = readFromStream(stream);
+                    result = readFromStream(stream, path);
                 } else {
                     try (InputStream stream2 = getClass().getClassLoader().getResourceAsStream(path)) {
-                        result = readFromStream(stream2);
+                        result = readFromStream(stream2, path);
                     } catch (Exception e) {
                         LOG.log(Level.SEVERE, "Exception: ", e);
                     }
@@ -116,14 +167,29 @@ private Map<String, Object> loadValues() {
         return null;
     }
 
-    private Map<String, Object> readFromStream(InputStream stream) {
+    private Map<String, Object> readFromStream(InputStream stream, String source) throws IOException {
         if (stream == null) return null;
-        final Map<String, Object> valuesMap = new Yaml().loadAs(stream, Map.class);
-        Map<String, Object> localeBased = (Map<String, Object>) valuesMap.get(locale.getLanguage());
-        if (localeBased == null) {
-            localeBased = (Map<String, Object>) valuesMap.get(filename);
+        final long start = PROFILE_LOADING || FakerMetrics.ENABLED ? System.nanoTime() : 0;
+        final Object event = FakerEvents.beginYamlLoad();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(stream.available(), 8192));
+        final byte[] buffer = new byte[8192];
+        for (int read; (read = stream.read(buffer)) != -1; ) {
+            bytes.write(buffer, 0, read);
+        }
+        String text = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        if (!text.isEmpty() && text.charAt(0) == '\uFEFF') {
+            text = text.substring(1);
+        }
+        final Map<String, Object> sections =
+            YamlSections.load(text, source, locale, PROFILE_LOADING, locale.getLanguage(), filename);
+        if (PROFILE_LOADING) {
+            LOG.info(String.format(Locale.ROOT, "Loaded %s for %s in %.3f ms", source, locale, (System.nanoTime() - start) / 1e6));
+        }
+        if (FakerMetrics.ENABLED) {
+            FakerMetrics.listener().yamlLoaded(source, bytes.size(), System.nanoTime() - start);
         }
-        return (Map<String, Object>) localeBased.get("faker");
+        FakerEvents.commitYamlLoad(event, source, locale, bytes.size());
+        return sections;
     }
 
     boolean supportsPath(String path) {
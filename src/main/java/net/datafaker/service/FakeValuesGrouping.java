@@ -34,6 +34,20 @@ public Map get(String key) {
         return result;
     }
 
+    /**
+     * @param path the path of the files, {@code null} for all files
+     */
+    Collection<FakeValues> getFakeValues(String path) {
+        if (path != null) {
+            return fakeValues.getOrDefault(path, Collections.emptyList());
+        }
+        final List<FakeValues> result = new ArrayList<>();
+        for (Collection<FakeValues> values : fakeValues.values()) {
+            result.addAll(values);
+        }
+        return result;
+    }
+
     public static FakeValuesGrouping getEnglishFakeValueGrouping() {
         return ENGLISH_FAKE_VALUE_GROUPING;
     }
@@ -2,10 +2,12 @@
 
 import com.mifmif.common.regex.Generex;
 import net.datafaker.Faker;
+import net.datafaker.dispatch.DispatchTable;
+import net.datafaker.dispatch.DispatchedMethod;
+import net.datafaker.dispatch.Dispatcher;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -16,17 +18,21 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
-import java.util.function.Supplier;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class FakeValuesService {
     private static final Pattern LOCALE = Pattern.compile("[-_]");
@@ -41,9 +47,12 @@ public class FakeValuesService {
     private final List<Locale> localesChain;
 
     private final Map<Class<?>, Map<String, Collection<Method>>> class2methodsCache = new IdentityHashMap<>();
-    private final Map<String, Supplier<String>> expression2function = new WeakHashMap<>();
-    private final Map<String, List<Supplier<String>>> rawExp2function = new WeakHashMap<>();
-    private final Map<String, Generex> expression2generex = new WeakHashMap<>();
+    private final BoundedCache<ExpressionKey, BiFunction<Object, Faker, String>> expression2function =
+        new BoundedCache<>("directives", BoundedCache.capacity("directives", 4096));
+    private final BoundedCache<ExpressionKey, List<BiFunction<Object, Faker, String>>> rawExp2function =
+        new BoundedCache<>("expressions", BoundedCache.capacity("expressions", 4096));
+    private final BoundedCache<String, Generex> expression2generex =
+        new BoundedCache<>("regexes", BoundedCache.capacity("regexes", 512));
 
     /**
      * Resolves YAML file using the most specific path first based on language and country code.
@@ -149,15 +158,114 @@ public List<Locale> getLocalesChain() {
     }
 
     /**
-     * Fetch a random value from an array item specified by the key
+     * @return the caches of the compiled expressions, of the resolved directives and of the compiled regexes,
+     * to observe their hit rates
+     */
+    public List<BoundedCache<?, ?>> getCaches() {
+        return Arrays.asList(rawExp2function, expression2function, expression2generex);
+    }
+
+    /**
+     * Loads the dictionaries of the given keys or sections on the common {@link ForkJoinPool},
+     * see {@link #preload(Collection, Executor)}.
+     */
+    public CompletableFuture<Void> preload(Collection<String> keysOrSections) {
+        return preload(keysOrSections, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads the dictionaries of the given keys or sections for every locale of the chain, so that the first
+     * fetch of one of these keys does not stall. The files are read and parsed concurrently, then their
+     * sections.
+     *
+     * @param keysOrSections keys like {@code name.first_name} or sections like {@code name}, only their
+     *                       section matters
+     * @param executor       the executor to load the files on
+     * @return a future completed once everything is loaded, or exceptionally if a file cannot be parsed
+     */
+    public CompletableFuture<Void> preload(Collection<String> keysOrSections, Executor executor) {
+        Objects.requireNonNull(executor);
+        final Set<String> sections = new HashSet<>();
+        for (String key : keysOrSections) {
+            if (key == null || key.isEmpty()) {
+                throw new IllegalArgumentException("Keys or sections should not be empty");
+            }
+            final int dot = key.indexOf('.');
+            sections.add(dot < 0 ? key : key.substring(0, dot));
+        }
+        return preloadSections(sections, executor);
+    }
+
+    /**
+     * Loads all the dictionaries of the locale chain on the common {@link ForkJoinPool},
+     * see {@link #preloadAll(Executor)}.
+     */
+    public CompletableFuture<Void> preloadAll() {
+        return preloadAll(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads all the dictionaries of every locale of the chain, the files and then their sections concurrently.
+     *
+     * @return a future completed once everything is loaded, or exceptionally if a file cannot be parsed
+     */
+    public CompletableFuture<Void> preloadAll(Executor executor) {
+        return preloadSections(null, Objects.requireNonNull(executor));
+    }
+
+    /**
+     * @param sections the sections to load, {@code null} for all
+     */
+    private CompletableFuture<Void> preloadSections(Set<String> sections, Executor executor) {
+        final Set<FakeValues> files = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Locale locale : localesChain) {
+            final FakeValuesInterface values = fakeValuesInterfaceMap.get(locale);
+            if (values instanceof FakeValues) {
+                files.add((FakeValues) values);
+            } else if (values instanceof FakeValuesGrouping) {
+                if (sections == null) {
+                    files.addAll(((FakeValuesGrouping) values).getFakeValues(null));
+                } else {
+                    for (String section : sections) {
+                        files.addAll(((FakeValuesGrouping) values).getFakeValues(section));
+                    }
+                }
+            }
+        }
+        final List<CompletableFuture<Void>> loads = new ArrayList<>(files.size());
+        for (FakeValues file : files) {
+            loads.add(CompletableFuture.supplyAsync(file::sections, executor).thenCompose(loaded -> {
+                final List<CompletableFuture<Void>> parses = new ArrayList<>(loaded.size());
+                for (String section : loaded) {
+                    if (sections == null || sections.contains(section)) {
+                        parses.add(CompletableFuture.runAsync(() -> file.preload(section), executor));
+                    }
+                }
+                return CompletableFuture.allOf(parses.toArray(new CompletableFuture<?>[0]));
+            }));
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+    }
+
+    FakeValuesInterface fakeValues(Locale locale) {
+        return fakeValuesInterfaceMap.get(locale);
+    }
+
+    /**
+     * Fetch a random value from an array item specified by the key.
+     * If the array has weighted entries then the value is chosen with respect to their weights.
      */
     public Object fetch(String key) {
         List<?> valuesArray = null;
         Object o = fetchObject(key);
-        if (o instanceof ArrayList)
-            valuesArray = (ArrayList<?>) o;
-        return valuesArray == null || valuesArray.isEmpty()
-            ? null : valuesArray.get(randomService.nextInt(valuesArray.size()));
+        if (o instanceof List)
+            valuesArray = (List<?>) o;
+        if (valuesArray == null || valuesArray.isEmpty()) {
+            return null;
+        }
+        return valuesArray instanceof WeightedList
+            ? ((WeightedList<?>) valuesArray).sample(randomService)
+            : valuesArray.get(randomService.nextInt(valuesArray.size()));
     }
 
     /**
@@ -173,6 +281,7 @@ public String fetchString(String key) {
      * If the value is null, it will return an empty string.
      * <p>
      * If it is a list, it will assume it is a list of strings and select a random value from it.
+     * Lists with weighted entries like {@code {value: Smith, weight: 828}} are sampled with respect to the weights.
      * <p>
      * If the retrieved value is an slash encoded regular expression such as {@code /[a-b]/} then
      * the regex will be converted to a regexify expression and returned (ex. {@code #regexify '[a-b]'})
@@ -192,6 +301,9 @@ public String safeFetch(String key, String defaultIfNull) {
             if (values.size() == 0) {
                 return defaultIfNull;
             }
+            if (values instanceof WeightedList) {
+                return ((WeightedList<String>) values).sample(randomService);
+            }
             return values.get(randomService.nextInt(values.size()));
         } else if (isSlashDelimitedRegex(o.toString())) {
             return String.format("#{regexify '%s'}", trimRegexSlashes(o.toString()));
@@ -289,7 +401,13 @@ public String bothify(String string, boolean isUpper) {
     public String regexify(String regex) {
         Generex generex = expression2generex.get(regex);
         if (generex == null) {
+            final long start = FakerMetrics.ENABLED ? System.nanoTime() : 0;
+            final Object event = FakerEvents.beginRegexCompile();
             generex = new Generex(regex);
+            FakerEvents.commitRegexCompile(event, regex);
+            if (FakerMetrics.ENABLED) {
+                FakerMetrics.listener().regexCompiled(regex, System.nanoTime() - start);
+            }
             generex.setSeed(randomService.nextLong());
             expression2generex.put(regex, generex);
         }
@@ -382,13 +500,18 @@ private String letterHelper(int baseChar, String letterString) {
      * #{Person.hello_someone} will result in a method call to person.helloSomeone();
      */
     public String resolve(String key, Object current, Faker root) {
+        final long start = FakerMetrics.ENABLED ? System.nanoTime() : 0;
         final String expression = safeFetch(key, null);
 
         if (expression == null) {
             throw new RuntimeException(key + " resulted in null expression");
         }
 
-        return resolveExpression(expression, current, root);
+        final String resolved = resolveExpression(expression, current, root);
+        if (FakerMetrics.ENABLED) {
+            FakerMetrics.listener().keyResolved(key, System.nanoTime() - start);
+        }
+        return resolved;
     }
 
     /**
@@ -410,42 +533,79 @@ public String expression(String expression, Faker faker) {
      * {@link Faker#address()}'s {@link net.datafaker.Address#streetName()}.
      */
     protected String resolveExpression(String expression, Object current, Faker root) {
-        List<Supplier<String>> expressionSuppliers = rawExp2function.get(expression);
-        if (expressionSuppliers == null) {
+        if (!expression.contains("#{")) {
+            return expression;
+        }
+        final ExpressionKey key = new ExpressionKey(root, current, expression);
+        List<BiFunction<Object, Faker, String>> expressionFunctions = rawExp2function.get(key);
+        if (FakerMetrics.ENABLED) {
+            if (expressionFunctions == null) {
+                FakerMetrics.listener().expressionCacheMiss(expression);
+            } else {
+                FakerMetrics.listener().expressionCacheHit(expression);
+            }
+        }
+        final String[] values;
+        if (expressionFunctions == null) {
+            final Object event = FakerEvents.beginExpressionCompile();
             List<String> expressions = splitExpressions(expression);
-            expressionSuppliers = new ArrayList<>(expressions.size());
+            expressionFunctions = new ArrayList<>(expressions.size());
+            values = new String[expressions.size()];
             for (int i = 0; i < expressions.size(); i++) {
                 // odd are expressions, even are not expressions, just strings
+                final String expr = expressions.get(i);
                 if (i % 2 == 0) {
-                    final int index = i;
-                    expressionSuppliers.add(() -> expressions.get(index));
+                    expressionFunctions.add((c, r) -> expr);
+                    values[i] = expr;
                     continue;
                 }
-                String expr = expressions.get(i);
-                final Supplier<String> supplier = expression2function.get(expr);
-                String resolved = supplier == null ? null : supplier.get();
-                if (resolved == null) {
-                    int j = 0;
-                    while (j < expr.length() && !Character.isWhitespace(expr.charAt(j))) j++;
-                    String directive = expr.substring(0, j);
-                    while (j < expr.length() && Character.isWhitespace(expr.charAt(j))) j++;
-                    String arguments = j == expr.length() ? "" : expr.substring(j);
-                    String[] args = splitArguments(arguments);
-
-                    resolved = resolveExpression(expr, directive, args, current, root);
-                    if (resolved == null) {
-                        throw new RuntimeException("Unable to resolve #{" + expr + "} directive.");
-                    }
-                }
-                String r = resolved;
-                expressionSuppliers.add(() -> resolveExpression(r, current, root));
+                final Resolved resolved = resolveDirective(expr, current, root);
+                expressionFunctions.add((c, r) -> {
+                    final String value = resolved.function.apply(c, r);
+                    return value == null ? resolveDirective(expr, c, r).value : value;
+                });
+                values[i] = resolved.value;
             }
-            if (current == null) {
-                rawExp2function.put(expression, expressionSuppliers);
+            rawExp2function.put(key, expressionFunctions);
+            FakerEvents.commitExpressionCompile(event, expression);
+        } else {
+            values = new String[expressionFunctions.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = expressionFunctions.get(i).apply(current, root);
             }
         }
 
-        return expressionSuppliers.stream().map(Supplier::get).collect(Collectors.joining());
+        // the directives resolve to values that may be expressions again
+        final StringBuilder result = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            result.append(i % 2 == 0 ? values[i] : resolveExpression(values[i], current, root));
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param expr a directive with its arguments like {@code number_between '1','10'}
+     */
+    private Resolved resolveDirective(String expr, Object current, Faker root) {
+        final ExpressionKey key = new ExpressionKey(root, current, expr);
+        final BiFunction<Object, Faker, String> function = expression2function.get(key);
+        final String value = function == null ? null : function.apply(current, root);
+        if (value != null) {
+            return new Resolved(function, value);
+        }
+        int j = 0;
+        while (j < expr.length() && !Character.isWhitespace(expr.charAt(j))) j++;
+        String directive = expr.substring(0, j);
+        while (j < expr.length() && Character.isWhitespace(expr.charAt(j))) j++;
+        String arguments = j == expr.length() ? "" : expr.substring(j);
+        String[] args = splitArguments(arguments);
+
+        final Resolved resolved = resolveExpression(expr, directive, args, current, root);
+        if (resolved == null) {
+            throw new RuntimeException("Unable to resolve #{" + expr + "} directive.");
+        }
+        expression2function.put(key, resolved.function);
+        return resolved;
     }
 
     private static String[] splitArguments(String arguments) {
@@ -505,7 +665,7 @@ private static List<String> splitExpressions(String expression) {
      *
      * @return null if unable to resolve
      */
-    private String resolveExpression(String expression, String directive, String[] args, Object current, Faker root) {
+    private Resolved resolveExpression(String expression, String directive, String[] args, Object current, Faker root) {
         // name.name (resolve locally)
         // Name.first_name (resolve to faker.name().firstName())
         final String simpleDirective = (isDotDirective(directive) || current == null)
@@ -516,38 +676,34 @@ private String resolveExpression(String expression, String directive, String[] a
         // resolve method references on CURRENT object like #{number_between '1','10'} on Number or
         // #{ssn_valid} on IdNumber
         if (!isDotDirective(directive)) {
-            Supplier<String> supplier = resolveFromMethodOn(current, directive, args);
-            if (supplier != null && (resolved = supplier.get()) != null) {
-                expression2function.put(expression, supplier);
-                return resolved;
+            final Function<Object, String> onCurrent = resolveFromMethodOn(current, directive, args);
+            if (onCurrent != null && (resolved = onCurrent.apply(current)) != null) {
+                return new Resolved((c, r) -> onCurrent.apply(c), resolved);
             }
         }
 
         // simple fetch of a value from the yaml file. the directive may have been mutated
         // such that if the current yml object is car: and directive is #{wheel} then
         // car.wheel will be looked up in the YAML file.
-        Supplier<String> supplier = () -> safeFetch(simpleDirective, null);
-        resolved = supplier.get();
+        BiFunction<Object, Faker, String> function = (c, r) -> safeFetch(simpleDirective, null);
+        resolved = function.apply(current, root);
         if (resolved != null) {
-            expression2function.put(expression, supplier);
-            return resolved;
+            return new Resolved(function, resolved);
         }
 
         // resolve method references on faker object like #{regexify '[a-z]'}
         if (!isDotDirective(directive)) {
-            supplier = resolveFromMethodOn(root, directive, args);
-            if (supplier != null && (resolved = supplier.get()) != null) {
-                expression2function.put(expression, supplier);
-                return resolved;
+            final Function<Object, String> onRoot = resolveFromMethodOn(root, directive, args);
+            if (onRoot != null && (resolved = onRoot.apply(root)) != null) {
+                return new Resolved((c, r) -> onRoot.apply(r), resolved);
             }
         }
 
         // Resolve Faker Object method references like #{ClassName.method_name}
         if (isDotDirective(directive)) {
-            supplier = resolveFakerObjectAndMethod(root, directive, args);
-            if (supplier != null && (resolved = supplier.get()) != null) {
-                expression2function.put(expression, supplier);
-                return resolved;
+            final Resolved onFaker = resolveFakerObjectAndMethod(root, directive, args);
+            if (onFaker != null && onFaker.value != null) {
+                return onFaker;
             }
         }
 
@@ -557,14 +713,14 @@ private String resolveExpression(String expression, String directive, String[] a
         // did first but FIRST we change the Object reference Class.method_name with a yml style internal reference ->
         // class.method_name (lowercase)
         if (isDotDirective(directive)) {
-            supplier = () -> safeFetch(javaNameToYamlName(simpleDirective), null);
-            resolved = supplier.get();
+            function = (c, r) -> safeFetch(javaNameToYamlName(simpleDirective), null);
+            resolved = function.apply(current, root);
             if (resolved != null) {
-                expression2function.put(expression, supplier);
+                return new Resolved(function, resolved);
             }
         }
 
-        return resolved;
+        return null;
     }
 
 
@@ -612,18 +768,18 @@ private String javaNameToYamlName(String expression) {
      * {@link net.datafaker.Name} then this method would return {@link net.datafaker.Name#firstName()}.  Returns null if the directive is nested
      * (i.e. has a '.') or the method doesn't exist on the <em>obj</em> object.
      */
-    private Supplier<String> resolveFromMethodOn(Object obj, String directive, String[] args) {
+    private Function<Object, String> resolveFromMethodOn(Object obj, String directive, String[] args) {
         if (obj == null) {
             return null;
         }
         try {
             final MethodAndCoercedArgs accessor = accessor(obj, directive, args);
             return (accessor == null)
-                ? () -> null
-                : () -> invokeAndToString(accessor, obj);
+                ? o -> null
+                : o -> invokeAndToString(accessor, o);
         } catch (Exception e) {
             LOG.log(Level.FINE, "Can't call " + directive + " on " + obj, e);
-            return () -> null;
+            return o -> null;
         }
     }
 
@@ -633,7 +789,7 @@ private Supplier<String> resolveFromMethodOn(Object obj, String directive, Strin
      *
      * @throws RuntimeException if there's a problem invoking the method or it doesn't exist.
      */
-    private Supplier<String> resolveFakerObjectAndMethod(Faker faker, String key, String[] args) {
+    private Resolved resolveFakerObjectAndMethod(Faker faker, String key, String[] args) {
         int index = key.indexOf('.');
         final String[] classAndMethod;
         if (index == -1) {
@@ -658,15 +814,28 @@ private Supplier<String> resolveFakerObjectAndMethod(Faker faker, String key, St
                     + " called " + nestedMethodName + ".");
             }
 
-            return () -> invokeAndToString(accessor, objectWithMethodToInvoke);
+            return new Resolved((c, r) -> {
+                try {
+                    return invokeAndToString(accessor, fakerAccessor.invoke(r));
+                } catch (Exception e) {
+                    LOG.fine(e.getMessage());
+                    return null;
+                }
+            }, invokeAndToString(accessor, objectWithMethodToInvoke));
         } catch (Exception e) {
             LOG.fine(e.getMessage());
-            return () -> null;
+            return null;
         }
     }
 
     private String invokeAndToString(MethodAndCoercedArgs accessor, Object objectWithMethodToInvoke) {
         try {
+            if (FakerMetrics.ENABLED && accessor.method != null) {
+                final long start = System.nanoTime();
+                final Object result = accessor.invoke(objectWithMethodToInvoke);
+                FakerMetrics.listener().reflectiveInvocation(accessor.method, System.nanoTime() - start);
+                return string(result);
+            }
             return string(accessor.invoke(objectWithMethodToInvoke));
         } catch (Exception e) {
             LOG.fine(e.getMessage());
@@ -676,12 +845,25 @@ private String invokeAndToString(MethodAndCoercedArgs accessor, Object objectWit
 
 
     /**
-     * Find an accessor by name ignoring case.
+     * Find an accessor by name ignoring case. Classes covered by a generated {@link DispatchTable}
+     * are called directly, the others through reflection.
      */
     private MethodAndCoercedArgs accessor(Object onObject, String name, String[] args) {
         LOG.log(Level.FINE, () -> "Find accessor named " + name + " on " + onObject.getClass().getSimpleName() + " with args " + Arrays.toString(args));
 
         final Class clazz = onObject.getClass();
+        final List<DispatchedMethod> dispatched = Dispatcher.methods(clazz, name.toLowerCase(Locale.ROOT));
+        if (dispatched != null) {
+            for (DispatchedMethod m : dispatched) {
+                if (m.getParameterCount() == args.length || m.getParameterCount() < args.length && m.isVarArgs()) {
+                    final Object[] coercedArguments = coerceArguments(m.getParameterTypes(), m.isVarArgs(), args);
+                    if (coercedArguments != null) {
+                        return new MethodAndCoercedArgs(m, coercedArguments);
+                    }
+                }
+            }
+            return name.contains("_") ? accessor(onObject, removeChars(name, '_'), args) : null;
+        }
         if (!class2methodsCache.containsKey(clazz)) {
             Map<String, Collection<Method>> methodMap = new HashMap<>();
             for (Method m : clazz.getMethods()) {
@@ -695,7 +877,7 @@ private MethodAndCoercedArgs accessor(Object onObject, String name, String[] arg
             class2methodsCache.get(clazz).getOrDefault(name.toLowerCase(Locale.ROOT), Collections.emptyList());
         for (Method m : methods) {
             if (m.getParameterTypes().length == args.length || m.getParameterTypes().length < args.length && m.isVarArgs()) {
-                final Object[] coercedArguments = coerceArguments(m, args);
+                final Object[] coercedArguments = coerceArguments(m.getParameterTypes(), m.isVarArgs(), args);
                 if (coercedArguments != null) {
                     return new MethodAndCoercedArgs(m, coercedArguments);
                 }
@@ -726,15 +908,15 @@ private static String removeChars(String string, char char2remove) {
 
     /**
      * Coerce arguments in <em>args</em> into the appropriate types (if possible) for the parameter arguments
-     * to <em>accessor</em>.
+     * of an accessor with <em>parameterTypes</em>.
      *
      * @return array of coerced values if successful, null otherwise
      */
-    private Object[] coerceArguments(Method accessor, String[] args) {
-        final Object[] coerced = new Object[accessor.getParameterTypes().length];
-        for (int i = 0; i < accessor.getParameterTypes().length; i++) {
-            final boolean isVarArg = i == accessor.getParameterTypes().length - 1 && accessor.isVarArgs();
-            Class<?> toType = primitiveToWrapper(accessor.getParameterTypes()[i]);
+    private Object[] coerceArguments(Class<?>[] parameterTypes, boolean varArgs, String[] args) {
+        final Object[] coerced = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final boolean isVarArg = i == parameterTypes.length - 1 && varArgs;
+            Class<?> toType = primitiveToWrapper(parameterTypes[i]);
             toType = isVarArg ? toType.getComponentType() : toType;
             try {
                 final Object coercedArgument;
@@ -824,20 +1006,81 @@ private String string(Object obj) {
      * simple wrapper class around an accessor and a list of coerced arguments.
      * this is useful as we get to find the method and coerce the arguments in one
      * shot, returning both when successful.  This saves us from doing it more than once (coercing args).
+     * The accessor is either a reflective {@link Method} or a {@link DispatchedMethod}.
      */
     private static class MethodAndCoercedArgs {
 
         private final Method method;
 
+        private final DispatchedMethod dispatched;
+
         private final Object[] coerced;
 
         private MethodAndCoercedArgs(Method m, Object[] coerced) {
             this.method = Objects.requireNonNull(m, "method cannot be null");
+            this.dispatched = null;
+            this.coerced = Objects.requireNonNull(coerced, "coerced arguments cannot be null");
+        }
+
+        private MethodAndCoercedArgs(DispatchedMethod m, Object[] coerced) {
+            this.method = null;
+            this.dispatched = Objects.requireNonNull(m, "method cannot be null");
             this.coerced = Objects.requireNonNull(coerced, "coerced arguments cannot be null");
         }
 
-        private Object invoke(Object on) throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(on, coerced);
+        private Object invoke(Object on) throws Exception {
+            return method == null ? dispatched.invoke(on, coerced) : method.invoke(on, coerced);
+        }
+    }
+
+    /**
+     * A directive resolved to a value, with the function giving the next values for an object and a {@link Faker}.
+     */
+    private static class Resolved {
+
+        private final BiFunction<Object, Faker, String> function;
+
+        private final String value;
+
+        private Resolved(BiFunction<Object, Faker, String> function, String value) {
+            this.function = function;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The key of the cached expressions. An expression resolves differently depending on the classes of the object
+     * it is resolved on and of the {@link Faker} it belongs to, the instances themselves are passed to the cached
+     * functions so that the cache neither holds them nor depends on them.
+     */
+    private static final class ExpressionKey {
+
+        private final Class<?> root;
+
+        private final Class<?> current;
+
+        private final String expression;
+
+        private final int hash;
+
+        private ExpressionKey(Faker root, Object current, String expression) {
+            this.root = root == null ? null : root.getClass();
+            this.current = current == null ? null : current.getClass();
+            this.expression = expression;
+            this.hash = (31 * Objects.hashCode(this.root) + Objects.hashCode(this.current)) * 31 + expression.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ExpressionKey)) return false;
+            final ExpressionKey that = (ExpressionKey) o;
+            return root == that.root && current == that.current && expression.equals(that.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 }
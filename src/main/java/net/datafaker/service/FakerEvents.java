@@ -0,0 +1,36 @@
+package net.datafaker.service;
+
+import java.util.Locale;
+
+/**
+ * Java Flight Recorder events of slow YAML loads, expression compilations and {@code regexify} compilations.
+ * <p>
+ * This Java 8 version does nothing. On Java 11 and later the multi-release jar contains the version
+ * in {@code src/main/java11}, which emits {@code jdk.jfr} events. An event is begun before the work
+ * and committed with its attributes after it.
+ */
+final class FakerEvents {
+    private FakerEvents() {
+    }
+
+    static Object beginYamlLoad() {
+        return null;
+    }
+
+    static void commitYamlLoad(Object event, String source, Locale locale, long bytes) {
+    }
+
+    static Object beginExpressionCompile() {
+        return null;
+    }
+
+    static void commitExpressionCompile(Object event, String expression) {
+    }
+
+    static Object beginRegexCompile() {
+        return null;
+    }
+
+    static void commitRegexCompile(Object event, String regex) {
+    }
+}
@@ -6,12 +6,40 @@
  * Created by tshick on 10/30/16.
  */
 public class FakerIDN {
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int MAX_CACHED_VALUES = 16_384;
+    private static final BoundedCache<String, String> ASCII = new BoundedCache<>("idn", MAX_CACHED_VALUES);
+
     /**
      * {@link IDN#toASCII(String)} is too picky for our needs.  It was throwing exceptions for fa.yml and
      * he.yml as they're Bidi languages and something was causing them to die.  This is kind of a brute force
      * fix but it appears to fix the issue.
+     * <p>
+     * Single ASCII labels are returned as is, other conversions are memoized since the input
+     * usually comes from a dictionary with a limited number of distinct values.
      */
     public static String toASCII(String in) {
+        if (isAsciiLabel(in)) {
+            return in;
+        }
+        return ASCII.get(in, FakerIDN::convert);
+    }
+
+    private static boolean isAsciiLabel(String in) {
+        final int length = in.length();
+        if (length == 0 || length > MAX_LABEL_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = in.charAt(i);
+            if (c >= 0x80 || c == '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String convert(String in) {
         try {
             return IDN.toASCII(in);
         } catch (Exception e) {
@@ -0,0 +1,79 @@
+package net.datafaker.service;
+
+import java.lang.reflect.Method;
+
+/**
+ * Listener of what {@link FakeValuesService} does at runtime: key resolutions, expression cache lookups,
+ * reflective method calls, {@code regexify} compilations and YAML file loads.
+ * <p>
+ * Metrics are off unless the JVM is started with {@code -Ddatafaker.metrics=true}. The flag is read once
+ * into {@link #ENABLED}, so when it is off the JIT removes the calls and no time is measured.
+ * When it is on, the listener is the first implementation registered in
+ * {@code META-INF/services/net.datafaker.service.FakerMetrics}, or an {@link InMemoryFakerMetrics}
+ * if there is none, and can be replaced with {@link #setListener(FakerMetrics)}.
+ * <p>
+ * Implementations are called from every thread generating data and must be thread safe.
+ * All durations are in nanoseconds.
+ */
+public interface FakerMetrics {
+    boolean ENABLED = Boolean.getBoolean("datafaker.metrics");
+
+    /**
+     * {@link FakeValuesService#resolve(String, Object, net.datafaker.Faker)} of {@code key} took {@code nanos},
+     * nested resolutions included.
+     */
+    default void keyResolved(String key, long nanos) {
+    }
+
+    /**
+     * The parsed form of {@code expression} was already cached.
+     */
+    default void expressionCacheHit(String expression) {
+    }
+
+    /**
+     * {@code expression} had to be parsed and its directives looked up.
+     */
+    default void expressionCacheMiss(String expression) {
+    }
+
+    /**
+     * A provider method called by an expression like {@code #{Name.first_name}} took {@code nanos}.
+     */
+    default void reflectiveInvocation(Method method, long nanos) {
+    }
+
+    /**
+     * Compiling {@code regex} for {@code regexify} took {@code nanos}.
+     */
+    default void regexCompiled(String regex, long nanos) {
+    }
+
+    /**
+     * Reading and parsing {@code bytes} bytes of the YAML file {@code source} took {@code nanos}.
+     */
+    default void yamlLoaded(String source, long bytes, long nanos) {
+    }
+
+    /**
+     * @return the current listener, {@code null} if metrics are disabled
+     */
+    static FakerMetrics listener() {
+        return ENABLED ? FakerMetricsHolder.listener : null;
+    }
+
+    /**
+     * Replaces the current listener.
+     *
+     * @throws IllegalStateException if metrics are disabled
+     */
+    static void setListener(FakerMetrics listener) {
+        if (!ENABLED) {
+            throw new IllegalStateException("Metrics are disabled, start the JVM with -Ddatafaker.metrics=true");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener is required");
+        }
+        FakerMetricsHolder.listener = listener;
+    }
+}
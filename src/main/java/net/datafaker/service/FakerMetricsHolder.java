@@ -0,0 +1,20 @@
+package net.datafaker.service;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link FakerMetrics} listener, which an interface cannot do.
+ * It is only loaded when metrics are enabled.
+ */
+final class FakerMetricsHolder {
+    static volatile FakerMetrics listener = load();
+
+    private FakerMetricsHolder() {
+    }
+
+    private static FakerMetrics load() {
+        final Iterator<FakerMetrics> services = ServiceLoader.load(FakerMetrics.class).iterator();
+        return services.hasNext() ? services.next() : new InMemoryFakerMetrics();
+    }
+}
@@ -0,0 +1,157 @@
+package net.datafaker.service;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a {@link LatencyHistogram} per key, provider method, regex and YAML file and the expression cache
+ * hits and misses per expression, to be scraped with the getters or {@link #report(int)}.
+ * <p>
+ * At most {@link #MAX_NAMES} distinct names are tracked per kind, the others are counted as {@link #OTHER},
+ * so expressions built from user input cannot grow it without bound.
+ */
+public class InMemoryFakerMetrics implements FakerMetrics {
+    public static final int MAX_NAMES = 10_000;
+    public static final String OTHER = "<other>";
+
+    private final ConcurrentMap<String, LatencyHistogram> keys = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> invocations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> regexes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> yamlLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> expressionHits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> expressionMisses = new ConcurrentHashMap<>();
+    private final LongAdder yamlBytes = new LongAdder();
+
+    @Override
+    public void keyResolved(String key, long nanos) {
+        get(keys, key, LatencyHistogram::new).record(nanos);
+    }
+
+    @Override
+    public void expressionCacheHit(String expression) {
+        get(expressionHits, expression, LongAdder::new).increment();
+    }
+
+    @Override
+    public void expressionCacheMiss(String expression) {
+        get(expressionMisses, expression, LongAdder::new).increment();
+    }
+
+    @Override
+    public void reflectiveInvocation(Method method, long nanos) {
+        get(invocations, method.getDeclaringClass().getSimpleName() + "." + method.getName(), LatencyHistogram::new)
+            .record(nanos);
+    }
+
+    @Override
+    public void regexCompiled(String regex, long nanos) {
+        get(regexes, regex, LatencyHistogram::new).record(nanos);
+    }
+
+    @Override
+    public void yamlLoaded(String source, long bytes, long nanos) {
+        get(yamlLoads, source, LatencyHistogram::new).record(nanos);
+        yamlBytes.add(bytes);
+    }
+
+    public Map<String, LatencyHistogram> keyResolutions() {
+        return Collections.unmodifiableMap(keys);
+    }
+
+    /**
+     * @return histograms by {@code SimpleClassName.method}
+     */
+    public Map<String, LatencyHistogram> reflectiveInvocations() {
+        return Collections.unmodifiableMap(invocations);
+    }
+
+    public Map<String, LatencyHistogram> regexCompilations() {
+        return Collections.unmodifiableMap(regexes);
+    }
+
+    public Map<String, LatencyHistogram> yamlLoads() {
+        return Collections.unmodifiableMap(yamlLoads);
+    }
+
+    public long yamlBytes() {
+        return yamlBytes.sum();
+    }
+
+    public long expressionCacheHits(String expression) {
+        return sum(expressionHits.get(expression));
+    }
+
+    public long expressionCacheMisses(String expression) {
+        return sum(expressionMisses.get(expression));
+    }
+
+    public long expressionCacheHits() {
+        return expressionHits.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long expressionCacheMisses() {
+        return expressionMisses.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public void reset() {
+        keys.clear();
+        invocations.clear();
+        regexes.clear();
+        yamlLoads.clear();
+        expressionHits.clear();
+        expressionMisses.clear();
+        yamlBytes.reset();
+    }
+
+    /**
+     * @param top number of entries per kind
+     * @return the keys, provider methods, regexes and YAML files which took the most time in total
+     * and the expressions missing the cache most often, one per line
+     */
+    public String report(int top) {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "expression cache: %d hits, %d misses%n",
+            expressionCacheHits(), expressionCacheMisses()));
+        append(report, "keys", keys, top);
+        append(report, "reflective invocations", invocations, top);
+        append(report, "regex compilations", regexes, top);
+        append(report, "yaml loads (" + yamlBytes() + " bytes)", yamlLoads, top);
+        final List<Map.Entry<String, LongAdder>> misses = new ArrayList<>(expressionMisses.entrySet());
+        misses.sort(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed());
+        report.append(String.format(Locale.ROOT, "expression cache misses:%n"));
+        for (Map.Entry<String, LongAdder> entry : misses.subList(0, Math.min(top, misses.size()))) {
+            report.append(String.format(Locale.ROOT, "  %s: %d%n", entry.getKey(), entry.getValue().sum()));
+        }
+        return report.toString();
+    }
+
+    private static void append(StringBuilder report, String title, Map<String, LatencyHistogram> histograms, int top) {
+        final List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().totalNanos()).reversed());
+        report.append(String.format(Locale.ROOT, "%s:%n", title));
+        for (Map.Entry<String, LatencyHistogram> entry : entries.subList(0, Math.min(top, entries.size()))) {
+            report.append(String.format(Locale.ROOT, "  %s: %s%n", entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private static <T> T get(ConcurrentMap<String, T> map, String name, Supplier<T> factory) {
+        T value = map.get(name);
+        if (value == null) {
+            value = map.computeIfAbsent(map.size() < MAX_NAMES ? name : OTHER, key -> factory.get());
+        }
+        return value;
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+}
@@ -0,0 +1,87 @@
+package net.datafaker.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe histogram of durations in nanoseconds with one bucket per power of two,
+ * so percentiles are upper bounds at most twice the real value. Recording never allocates.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets[bucket(value)].increment();
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long totalNanos() {
+        return total.sum();
+    }
+
+    public long maxNanos() {
+        return max.get();
+    }
+
+    public double meanNanos() {
+        final long n = count();
+        return n == 0 ? 0 : (double) totalNanos() / n;
+    }
+
+    /**
+     * @param quantile from 0 to 1, e.g. 0.99
+     * @return the upper bound of the bucket holding the quantile, 0 if nothing was recorded
+     */
+    public long percentileNanos(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile should be between 0 and 1 but was " + quantile);
+        }
+        final long n = count();
+        if (n == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(quantile * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxNanos());
+            }
+        }
+        return maxNanos();
+    }
+
+    private static int bucket(long value) {
+        return value == 0 ? 0 : 63 - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "count=%d total=%.3fms mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+            count(), totalNanos() / 1e6, meanNanos() / 1e3, percentileNanos(0.5) / 1e3,
+            percentileNanos(0.99) / 1e3, maxNanos() / 1e3);
+    }
+}
@@ -0,0 +1,80 @@
+package net.datafaker.service;
+
+/**
+ * A random bijection of {@code [0, size)} onto itself, i.e. a shuffle which is never materialized.
+ * <p>
+ * It is a balanced Feistel network over the smallest even number of bits covering {@code size}.
+ * Values outside of the range are mapped again until they fall into it (cycle walking),
+ * since the network domain is less than four times larger than the range this takes
+ * less than four rounds on average. Memory usage is constant whatever the size,
+ * so {@code apply(0)}, {@code apply(1)}, ... enumerates every value of a huge range exactly once
+ * in random order without a {@code HashSet} or a bit set of seen values.
+ * <p>
+ * The permutation is immutable and thread safe, all its randomness is taken at construction.
+ * It is not a cryptographic cipher.
+ */
+public final class Permutation {
+    /**
+     * The largest supported size.
+     */
+    public static final long MAX_SIZE = 1L << 62;
+
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys = new long[ROUNDS];
+
+    /**
+     * @param size number of values to permute, from 1 to {@link #MAX_SIZE}
+     */
+    public Permutation(long size, RandomService random) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Size should be between 1 and 2^62 but was " + size);
+        }
+        this.size = size;
+        final int bits = 64 - Long.numberOfLeadingZeros(size - 1);
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @param index from 0 (inclusive) to {@link #size()} (exclusive)
+     * @return the value the index is mapped to, distinct indexes are always mapped to distinct values
+     */
+    public long apply(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of range [0, " + size + ")");
+        }
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long key : keys) {
+            final long next = left ^ (round(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return left << halfBits | right;
+    }
+
+    private static long round(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
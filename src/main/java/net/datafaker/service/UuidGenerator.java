@@ -0,0 +1,133 @@
+package net.datafaker.service;
+
+import java.util.UUID;
+
+/**
+ * Builds RFC 4122 / RFC 9562 UUIDs from a {@link RandomService}, so they respect the
+ * {@link net.datafaker.Faker} seed and never touch {@link java.security.SecureRandom}.
+ * <p>
+ * Every UUID is made of two {@code nextLong()} calls: the most and the least significant bits.
+ * The version and the variant bits are then overwritten as required by the specification.
+ * <p>
+ * The generated values are fine as test data and primary keys but are of course not suitable
+ * where unpredictable identifiers are needed.
+ */
+public final class UuidGenerator {
+    /**
+     * Length of the canonical text representation, e.g. {@code 123e4567-e89b-42d3-a456-426614174000}.
+     */
+    public static final int LENGTH = 36;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long VERSION_4 = 0x4000L;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+    private static final long MAX_UNIX_MILLIS = (1L << 48) - 1;
+
+    private UuidGenerator() {
+    }
+
+    /**
+     * @return a random (version 4) UUID
+     */
+    public static UUID v4(RandomService random) {
+        return new UUID(v4MostSigBits(random.nextLong()), leastSigBits(random.nextLong()));
+    }
+
+    /**
+     * @param epochMillis the timestamp to put into the UUID, milliseconds since 1970-01-01T00:00:00Z
+     * @return a time-ordered (version 7) UUID, the remaining 74 bits are random
+     */
+    public static UUID v7(RandomService random, long epochMillis) {
+        return new UUID(v7MostSigBits(epochMillis, random.nextLong()), leastSigBits(random.nextLong()));
+    }
+
+    /**
+     * Fills {@code dest} with pairs of most and least significant bits of version 4 UUIDs,
+     * i.e. {@code dest[2 * i]} and {@code dest[2 * i + 1]} describe the i-th UUID.
+     * This is the layout of a binary {@code UUID} column and needs no object per value.
+     *
+     * @param dest array with an even length
+     */
+    public static void v4(RandomService random, long[] dest) {
+        if ((dest.length & 1) != 0) {
+            throw new IllegalArgumentException("Array length should be even but was " + dest.length);
+        }
+        for (int i = 0; i < dest.length; i += 2) {
+            dest[i] = v4MostSigBits(random.nextLong());
+            dest[i + 1] = leastSigBits(random.nextLong());
+        }
+    }
+
+    /**
+     * Same as {@link #v4(RandomService, long[])} for version 7 UUIDs with the timestamps taken
+     * from {@code epochMillis}: {@code epochMillis[i]} is used for the i-th UUID.
+     */
+    public static void v7(RandomService random, long[] epochMillis, long[] dest) {
+        if (dest.length != epochMillis.length * 2) {
+            throw new IllegalArgumentException("Array length should be " + epochMillis.length * 2 + " but was " + dest.length);
+        }
+        for (int i = 0; i < epochMillis.length; i++) {
+            dest[2 * i] = v7MostSigBits(epochMillis[i], random.nextLong());
+            dest[2 * i + 1] = leastSigBits(random.nextLong());
+        }
+    }
+
+    /**
+     * @return a random (version 4) UUID in its canonical lower case text representation
+     */
+    public static String v4String(RandomService random) {
+        final char[] buffer = new char[LENGTH];
+        format(v4MostSigBits(random.nextLong()), leastSigBits(random.nextLong()), buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Writes the canonical lower case text representation of a UUID
+     * into {@code dest[offset]..dest[offset + 35]}. Same as {@link UUID#toString()}
+     * without any intermediate objects, so a single buffer can be reused for many values.
+     */
+    public static void format(long mostSigBits, long leastSigBits, char[] dest, int offset) {
+        if (offset < 0 || offset > dest.length - LENGTH) {
+            throw new IndexOutOfBoundsException("Not enough space for a UUID at offset " + offset
+                + " of an array with length " + dest.length);
+        }
+        hex(mostSigBits >>> 32, 8, dest, offset);
+        dest[offset + 8] = '-';
+        hex(mostSigBits >>> 16, 4, dest, offset + 9);
+        dest[offset + 13] = '-';
+        hex(mostSigBits, 4, dest, offset + 14);
+        dest[offset + 18] = '-';
+        hex(leastSigBits >>> 48, 4, dest, offset + 19);
+        dest[offset + 23] = '-';
+        hex(leastSigBits, 12, dest, offset + 24);
+    }
+
+    public static void format(UUID uuid, char[] dest, int offset) {
+        format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), dest, offset);
+    }
+
+    private static void hex(long value, int digits, char[] dest, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            dest[i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    private static long v4MostSigBits(long random) {
+        return random & VERSION_MASK | VERSION_4;
+    }
+
+    private static long v7MostSigBits(long epochMillis, long random) {
+        if (epochMillis < 0 || epochMillis > MAX_UNIX_MILLIS) {
+            throw new IllegalArgumentException("Timestamp " + epochMillis + " does not fit into 48 bits");
+        }
+        return epochMillis << 16 | random & 0x0FFFL | VERSION_7;
+    }
+
+    private static long leastSigBits(long random) {
+        return random & VARIANT_MASK | VARIANT_RFC;
+    }
+}
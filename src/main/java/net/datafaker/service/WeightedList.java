@@ -0,0 +1,119 @@
+package net.datafaker.service;
+
+import net.datafaker.distributions.AliasTable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A YAML list which entries have explicit weights, e.g.
+ * <pre>
+ * last_name:
+ *   - {value: Smith, weight: 828}
+ *   - {value: Johnson, weight: 655}
+ *   - Williams
+ * </pre>
+ * Entries without a weight get weight 1. The list itself contains only the values,
+ * so it can be used everywhere a plain list from a YAML file is expected.
+ * <p>
+ * Sampling uses an {@link AliasTable} which is built once when the list is created,
+ * so every {@link #sample(RandomService)} call is O(1) with two random draws.
+ * The list is immutable, so the table always matches its elements.
+ */
+public class WeightedList<E> extends AbstractList<E> implements RandomAccess {
+    static final String VALUE = "value";
+    static final String WEIGHT = "weight";
+
+    private final Object[] values;
+    private final AliasTable aliasTable;
+
+    WeightedList(List<E> values, double[] weights) {
+        if (values.size() != weights.length) {
+            throw new IllegalArgumentException("Number of values and weights should be the same");
+        }
+        this.values = values.toArray();
+        this.aliasTable = new AliasTable(weights);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return a random element of the list with respect to the weights of the elements
+     */
+    public E sample(RandomService randomService) {
+        return get(aliasTable.sample(randomService));
+    }
+
+    /**
+     * Walks through the loaded YAML structure and replaces every list containing
+     * at least one {@code {value: ..., weight: ...}} entry with a {@link WeightedList}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object applyWeights(Object yaml) {
+        if (yaml instanceof Map) {
+            for (Map.Entry entry : ((Map<?, ?>) yaml).entrySet()) {
+                final Object value = entry.getValue();
+                final Object converted = applyWeights(value);
+                if (converted != value) {
+                    entry.setValue(converted);
+                }
+            }
+        } else if (yaml instanceof List && !(yaml instanceof WeightedList)) {
+            final List list = (List) yaml;
+            boolean weighted = false;
+            for (ListIterator it = list.listIterator(); it.hasNext(); ) {
+                final Object element = it.next();
+                if (isWeightedEntry(element)) {
+                    weighted = true;
+                } else {
+                    final Object converted = applyWeights(element);
+                    if (converted != element) {
+                        it.set(converted);
+                    }
+                }
+            }
+            if (weighted) {
+                return toWeightedList(list);
+            }
+        }
+        return yaml;
+    }
+
+    private static boolean isWeightedEntry(Object element) {
+        if (!(element instanceof Map)) {
+            return false;
+        }
+        final Map<?, ?> map = (Map<?, ?>) element;
+        return map.size() == 2 && map.containsKey(VALUE) && map.get(WEIGHT) instanceof Number;
+    }
+
+    private static WeightedList<Object> toWeightedList(List<?> list) {
+        final List<Object> values = new ArrayList<>(list.size());
+        final double[] weights = new double[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            final Object element = list.get(i);
+            if (isWeightedEntry(element)) {
+                final Map<?, ?> map = (Map<?, ?>) element;
+                values.add(map.get(VALUE));
+                weights[i] = ((Number) map.get(WEIGHT)).doubleValue();
+            } else {
+                values.add(element);
+                weights[i] = 1;
+            }
+        }
+        return new WeightedList<>(values, weights);
+    }
+}
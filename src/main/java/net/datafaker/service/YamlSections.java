@@ -0,0 +1,224 @@
+package net.datafaker.service;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Loads the {@code faker} sections of a YAML dictionary like {@code de.yml}, i.e. the children of
+ * {@code <root>: faker:}. Large files are only indexed with the SnakeYAML event API: the text of every section
+ * is remembered and parsed when a key of the section is requested, so asking for {@code name.first_name}
+ * neither parses nor retains the address tables of the locale.
+ * <p>
+ * Small files, and files with aliases referring to anchors of another section, are parsed at once.
+ */
+final class YamlSections {
+    /**
+     * Files with fewer characters are parsed at once, the index would not save anything.
+     */
+    static final int LAZY_THRESHOLD = 64 * 1024;
+
+    private static final Logger LOG = Logger.getLogger("faker");
+    private static final String FAKER = "faker";
+    private static final Object EMPTY = new Object();
+
+    private YamlSections() {
+    }
+
+    /**
+     * @param roots the root keys to look for, the first one present is used
+     * @return the sections by name, either values or {@link Section}s, {@code null} if none of the roots is present
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> load(String text, String source, Locale locale, boolean profile, String... roots) {
+        if (text.length() >= LAZY_THRESHOLD) {
+            final Map<String, Object> sections = index(text, source, locale, profile, roots);
+            if (sections != null) {
+                return sections;
+            }
+        }
+        final Map<String, Object> yaml = new Yaml().loadAs(text, Map.class);
+        for (String root : roots) {
+            final Object localeBased = yaml.get(root);
+            if (localeBased instanceof Map) {
+                return (Map<String, Object>) WeightedList.applyWeights(((Map<String, Object>) localeBased).get(FAKER));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the sections of the first root found, {@code null} if the file has to be parsed at once
+     */
+    private static Map<String, Object> index(String text, String source, Locale locale, boolean profile, String[] roots) {
+        final Map<String, Map<String, Object>> sectionsByRoot = new HashMap<>();
+        final Map<String, Section> anchors = new HashMap<>();
+        final CodePointIndex index = new CodePointIndex(text);
+        // the open collections, e.g. the mappings of the root, of "de" and of "faker"
+        final List<Frame> stack = new ArrayList<>();
+        Section section = null;
+        for (Event event : new Yaml().parse(new StringReader(text))) {
+            if (!(event instanceof NodeEvent || event instanceof CollectionEndEvent)) {
+                continue;
+            }
+            final Frame top = stack.isEmpty() ? null : stack.get(stack.size() - 1);
+            if (top != null && top.expectKey && !(event instanceof CollectionEndEvent)) {
+                if (!(event instanceof ScalarEvent)) {
+                    return null;
+                }
+                top.key = ((ScalarEvent) event).getValue();
+                top.expectKey = false;
+                continue;
+            }
+            if (event instanceof CollectionEndEvent) {
+                stack.remove(stack.size() - 1);
+            } else {
+                if (section == null && stack.size() == 3 && FAKER.equals(stack.get(1).key)) {
+                    section = new Section(source, locale, profile, top.key,
+                        index.charIndex(event.getStartMark().getIndex()), event.getStartMark().getColumn());
+                    sectionsByRoot.computeIfAbsent(stack.get(0).key, root -> new LinkedHashMap<>()).put(top.key, section);
+                }
+                final String anchor = ((NodeEvent) event).getAnchor();
+                if (event instanceof AliasEvent) {
+                    if (anchors.get(anchor) != section) {
+                        return null;
+                    }
+                } else if (anchor != null) {
+                    anchors.put(anchor, section);
+                }
+                if (event instanceof CollectionStartEvent) {
+                    stack.add(new Frame(event instanceof MappingStartEvent));
+                    continue;
+                }
+            }
+            // a value is complete
+            if (!stack.isEmpty()) {
+                stack.get(stack.size() - 1).expectKey = stack.get(stack.size() - 1).mapping;
+            }
+            if (section != null && stack.size() == 3) {
+                section.end(text, index.charIndex(event.getEndMark().getIndex()));
+                section = null;
+            }
+        }
+        for (String root : roots) {
+            if (sectionsByRoot.containsKey(root)) {
+                return sectionsByRoot.get(root);
+            }
+        }
+        return null;
+    }
+
+    private static final class Frame {
+        private final boolean mapping;
+        private boolean expectKey;
+        private String key;
+
+        private Frame(boolean mapping) {
+            this.mapping = mapping;
+            this.expectKey = mapping;
+        }
+    }
+
+    /**
+     * The text of a section, parsed on first access. The text is dropped once parsed.
+     */
+    static final class Section {
+        private final String source;
+        private final Locale locale;
+        private final boolean profile;
+        private final String name;
+        private final int start;
+        private final int column;
+        private String text;
+        private volatile Object value;
+
+        private Section(String source, Locale locale, boolean profile, String name, int start, int column) {
+            this.source = source;
+            this.locale = locale;
+            this.profile = profile;
+            this.name = name;
+            this.start = start;
+            this.column = column;
+        }
+
+        private void end(String file, int end) {
+            // indent the first line like the others, it may start after "name: "
+            final char[] indent = new char[column];
+            Arrays.fill(indent, ' ');
+            text = new String(indent) + file.substring(start, end);
+        }
+
+        Object get() {
+            Object result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = parse();
+                        value = result;
+                    }
+                }
+            }
+            return result == EMPTY ? null : result;
+        }
+
+        boolean isParsed() {
+            return value != null;
+        }
+
+        private Object parse() {
+            final long startNanos = System.nanoTime();
+            final Object event = FakerEvents.beginYamlLoad();
+            final Object parsed = WeightedList.applyWeights(new Yaml().load(text));
+            final String sectionSource = source + "#" + name;
+            if (profile) {
+                LOG.info(String.format(Locale.ROOT, "Parsed %s for %s in %.3f ms",
+                    sectionSource, locale, (System.nanoTime() - startNanos) / 1e6));
+            }
+            if (FakerMetrics.ENABLED) {
+                FakerMetrics.listener().yamlLoaded(sectionSource, text.length(), System.nanoTime() - startNanos);
+            }
+            FakerEvents.commitYamlLoad(event, sectionSource, locale, text.length());
+            text = null;
+            return parsed == null ? EMPTY : parsed;
+        }
+    }
+
+    /**
+     * Converts the code point indexes of SnakeYAML marks to char indexes, for increasing indexes in linear time.
+     */
+    private static final class CodePointIndex {
+        private final String text;
+        private int codePoints;
+        private int chars;
+
+        private CodePointIndex(String text) {
+            this.text = text;
+        }
+
+        int charIndex(int codePointIndex) {
+            if (codePointIndex < codePoints) {
+                codePoints = 0;
+                chars = 0;
+            }
+            chars = text.offsetByCodePoints(chars, codePointIndex - codePoints);
+            codePoints = codePointIndex;
+            return chars;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package net.datafaker.service;
+
+import java.util.Locale;
+
+/**
+ * Java Flight Recorder events of slow YAML loads, expression compilations and {@code regexify} compilations,
+ * emitted by {@link JfrEvents} when the {@code jdk.jfr} module is available.
+ * <p>
+ * An event is begun before the work and committed with its attributes after it.
+ */
+final class FakerEvents {
+    /**
+     * Whether the {@code jdk.jfr} module is available, otherwise no event is created.
+     */
+    private static final boolean ENABLED = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private FakerEvents() {
+    }
+
+    static Object beginYamlLoad() {
+        return ENABLED ? JfrEvents.beginYamlLoad() : null;
+    }
+
+    static void commitYamlLoad(Object event, String source, Locale locale, long bytes) {
+        if (event != null) {
+            JfrEvents.commitYamlLoad(event, source, locale, bytes);
+        }
+    }
+
+    static Object beginExpressionCompile() {
+        return ENABLED ? JfrEvents.beginExpressionCompile() : null;
+    }
+
+    static void commitExpressionCompile(Object event, String expression) {
+        if (event != null) {
+            JfrEvents.commitExpressionCompile(event, expression);
+        }
+    }
+
+    static Object beginRegexCompile() {
+        return ENABLED ? JfrEvents.beginRegexCompile() : null;
+    }
+
+    static void commitRegexCompile(Object event, String regex) {
+        if (event != null) {
+            JfrEvents.commitRegexCompile(event, regex);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package net.datafaker.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.Locale;
+
+/**
+ * The {@code jdk.jfr} events behind {@link FakerEvents}.
+ * <p>
+ * Only events longer than their threshold are recorded, so they can stay enabled in continuous recordings.
+ * The thresholds can be changed in a {@code .jfc} settings file, e.g. {@code net.datafaker.YamlLoad#threshold}.
+ */
+final class JfrEvents {
+    private JfrEvents() {
+    }
+
+    static Object beginYamlLoad() {
+        final YamlLoad event = new YamlLoad();
+        event.begin();
+        return event;
+    }
+
+    static void commitYamlLoad(Object event, String source, Locale locale, long bytes) {
+        final YamlLoad yamlLoad = (YamlLoad) event;
+        yamlLoad.end();
+        if (yamlLoad.shouldCommit()) {
+            yamlLoad.file = source;
+            yamlLoad.locale = locale.toString();
+            yamlLoad.bytes = bytes;
+            yamlLoad.commit();
+        }
+    }
+
+    static Object beginExpressionCompile() {
+        final ExpressionCompile event = new ExpressionCompile();
+        event.begin();
+        return event;
+    }
+
+    static void commitExpressionCompile(Object event, String expression) {
+        final ExpressionCompile expressionCompile = (ExpressionCompile) event;
+        expressionCompile.end();
+        if (expressionCompile.shouldCommit()) {
+            expressionCompile.expression = expression;
+            expressionCompile.commit();
+        }
+    }
+
+    static Object beginRegexCompile() {
+        final RegexCompile event = new RegexCompile();
+        event.begin();
+        return event;
+    }
+
+    static void commitRegexCompile(Object event, String regex) {
+        final RegexCompile regexCompile = (RegexCompile) event;
+        regexCompile.end();
+        if (regexCompile.shouldCommit()) {
+            regexCompile.regex = regex;
+            regexCompile.commit();
+        }
+    }
+
+    @Name("net.datafaker.YamlLoad")
+    @Label("YAML Load")
+    @Description("Reading and parsing of a YAML dictionary")
+    @Category("Datafaker")
+    @Threshold("10 ms")
+    @StackTrace(false)
+    static final class YamlLoad extends Event {
+        @Label("File")
+        String file;
+
+        @Label("Locale")
+        String locale;
+
+        @Label("Size")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("net.datafaker.ExpressionCompile")
+    @Label("Expression Compilation")
+    @Description("First resolution of an expression like #{Name.first_name}, nested expressions included")
+    @Category("Datafaker")
+    @Threshold("1 ms")
+    static final class ExpressionCompile extends Event {
+        @Label("Expression")
+        String expression;
+    }
+
+    @Name("net.datafaker.RegexCompile")
+    @Label("Regex Compilation")
+    @Description("Construction of the automaton of a regexify expression")
+    @Category("Datafaker")
+    @Threshold("1 ms")
+    static final class RegexCompile extends Event {
+        @Label("Regex")
+        String regex;
+    }
+}
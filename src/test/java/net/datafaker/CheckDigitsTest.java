@@ -0,0 +1,67 @@
+package net.datafaker;
+
+import net.datafaker.service.RandomService;
+import org.apache.commons.validator.routines.ISBNValidator;
+import org.apache.commons.validator.routines.checkdigit.EAN13CheckDigit;
+import org.apache.commons.validator.routines.checkdigit.LuhnCheckDigit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CheckDigitsTest {
+    private final RandomService random = new RandomService(new Random(37));
+
+    @Test
+    public void gtinOfAllLengths() {
+        long[] values = new long[1000];
+        for (int length : new int[]{8, 12, 13, 14, 18}) {
+            CheckDigits.gtin(random, length, values);
+            for (long value : values) {
+                // the GS1 check digit does not depend on leading zeros
+                assertTrue(EAN13CheckDigit.EAN13_CHECK_DIGIT.isValid(CheckDigits.toString(value, length)));
+            }
+        }
+    }
+
+    @Test
+    public void knownValues() {
+        assertEquals(4006381333931L, CheckDigits.withGtin(400638133393L));
+        assertEquals(79927398713L, CheckDigits.withLuhn(7992739871L));
+        assertEquals(CheckDigits.ISBN10_X, CheckDigits.isbn10(80442957L));
+        char[] buffer = new char[10];
+        CheckDigits.formatIsbn10(80442957L, buffer, 0);
+        assertEquals("080442957X", new String(buffer));
+    }
+
+    @Test
+    public void luhnWithPrefix() {
+        for (int i = 0; i < 1000; i++) {
+            String imei = CheckDigits.toString(CheckDigits.luhn(random, 35, 2, 15), 15);
+            assertTrue(imei.startsWith("35"));
+            assertTrue(LuhnCheckDigit.LUHN_CHECK_DIGIT.isValid(imei));
+        }
+        assertThrows(IllegalArgumentException.class, () -> CheckDigits.luhn(random, 100, 2, 15));
+    }
+
+    @Test
+    public void isbn() {
+        char[] buffer = new char[10];
+        for (int i = 0; i < 1000; i++) {
+            long isbn13 = CheckDigits.isbn13(random, i % 2 == 0 ? 978 : 979);
+            assertTrue(ISBNValidator.getInstance().isValidISBN13(Long.toString(isbn13)));
+            CheckDigits.formatIsbn10(CheckDigits.nextLong(random, 1_000_000_000L), buffer, 0);
+            assertTrue(ISBNValidator.getInstance().isValidISBN10(new String(buffer)));
+        }
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CheckDigits.gtin(random, 19));
+        assertThrows(IllegalArgumentException.class, () -> CheckDigits.toString(123, 2));
+        assertThrows(IllegalArgumentException.class, () -> CheckDigits.gtin(-1));
+    }
+}
@@ -0,0 +1,81 @@
+package net.datafaker;
+
+import net.datafaker.service.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CorpusTest {
+
+    private static Corpus.Builder builder(long seed) {
+        return new Corpus.Builder()
+            .random(new RandomService(new Random(seed)))
+            .documents(100)
+            .bodyLength(20, 0.5)
+            .tags(1, 3)
+            .dates(Instant.parse("2020-01-01T00:00:00Z"), Instant.parse("2021-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void shardsContainEveryDocumentOnce() throws IOException {
+        Corpus corpus = builder(1).shards(3).parallelism(2).build();
+        Path directory = Files.createTempDirectory("corpus");
+        try {
+            List<Path> files = corpus.write(directory);
+            assertEquals(3, files.size());
+            List<String> lines = new ArrayList<>();
+            for (Path file : files) {
+                lines.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+            }
+            assertEquals(100, lines.size());
+            for (int id = 0; id < lines.size(); id++) {
+                StringBuilder document = new StringBuilder();
+                corpus.write(id, document);
+                assertEquals(document.toString(), lines.get(id));
+                assertThat(lines.get(id), matchesRegularExpression(
+                    "\\{\"id\":" + id + ",\"title\":\".+\",\"author\":\".+\",\"date\":\"2020-[^\"]+Z\","
+                        + "\"tags\":\\[\"[^\"]+\"(,\"[^\"]+\"){0,2}],\"body\":\"[^\"]+\\.\"}"));
+            }
+        } finally {
+            for (Path file : Files.newDirectoryStream(directory)) {
+                Files.delete(file);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void documentsDependOnSeedAndId() throws IOException {
+        StringBuilder first = new StringBuilder();
+        StringBuilder second = new StringBuilder();
+        StringBuilder other = new StringBuilder();
+        builder(2).build().write(42, first);
+        builder(2).shards(7).build().write(42, second);
+        builder(3).build().write(42, other);
+        assertEquals(first.toString(), second.toString());
+        assertNotEquals(first.toString(), other.toString());
+    }
+
+    @Test
+    public void vocabulary() {
+        assertThat(new Corpus.Builder().build().vocabularySize(), greaterThan(1000));
+        assertEquals(new Corpus.Builder().vocabulary("lorem.words").build().vocabularySize(),
+            new Corpus.Builder().vocabulary("lorem.words", "lorem.words").build().vocabularySize());
+        assertThrows(IllegalArgumentException.class, () -> new Corpus.Builder().vocabulary("book.author").build());
+        assertThrows(IllegalArgumentException.class, () -> new Corpus.Builder().tags(3, 2));
+    }
+}
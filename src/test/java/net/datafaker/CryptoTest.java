@@ -2,8 +2,12 @@
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 public class CryptoTest extends AbstractFakerTest {
@@ -37,4 +41,34 @@ public void testSha384() {
     public void testSha512() {
         assertThat(faker.crypto().sha512(), matchesRegularExpression("[a-z\\d]+"));
     }
+
+    @Test
+    public void testHashesHaveTheDigestWidth() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(faker.crypto().md5(), matchesRegularExpression("[a-f\\d]{32}"));
+            assertThat(faker.crypto().sha1(), matchesRegularExpression("[a-f\\d]{40}"));
+            assertThat(faker.crypto().sha512(), matchesRegularExpression("[a-f\\d]{128}"));
+        }
+    }
+
+    @Test
+    public void testHexIntoBuffer() {
+        final char[] buffer = new char[40];
+        assertEquals(38, faker.crypto().hex(17, buffer, 4));
+        assertThat(new String(buffer, 4, 34), matchesRegularExpression("[a-f\\d]{34}"));
+        assertEquals(0, buffer[3]);
+        assertEquals(0, buffer[38]);
+    }
+
+    @Test
+    public void testHashesAreReproducible() {
+        assertEquals(new Faker(new Random(3)).crypto().sha256(), new Faker(new Random(3)).crypto().sha256());
+    }
+
+    @Test
+    public void testDigest() {
+        assertThat(faker.crypto().digest("SHA-256"), matchesRegularExpression("[a-f\\d]{64}"));
+        assertThat(faker.crypto().digest("MD5"), matchesRegularExpression("[a-f\\d]{32}"));
+        assertThrows(IllegalArgumentException.class, () -> faker.crypto().digest("foo"));
+    }
 }
@@ -0,0 +1,125 @@
+package net.datafaker;
+
+import net.datafaker.service.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DatasetTest extends AbstractFakerTest {
+
+    @Test
+    public void childRowsReferenceExistingParents() {
+        Set<Long> customerKeys = new HashSet<>();
+        Set<Long> orderKeys = new HashSet<>();
+        List<long[]> orders = new ArrayList<>();
+        List<long[]> lines = new ArrayList<>();
+
+        Dataset.Table<Long> products = new Dataset.Table<Long>("products")
+            .keys(Dataset.KeyPool.of(100, 200, 300))
+            .row(Dataset.Row::getKey)
+            .sink(key -> { });
+        Dataset.Table<Long> customers = new Dataset.Table<Long>("customers")
+            .keys(Dataset.KeyPool.sequence(1000, 1000))
+            .row(Dataset.Row::getKey)
+            .sink(customerKeys::add);
+        Dataset.Table<long[]> orderTable = new Dataset.Table<long[]>("orders")
+            .parent(customers, Dataset.FanOut.poisson(5))
+            .row(row -> new long[]{row.getKey(), row.getParentKey()})
+            .sink(orders::add);
+        Dataset.Table<long[]> lineTable = new Dataset.Table<long[]>("lines")
+            .parent(orderTable, Dataset.FanOut.uniform(1, 3))
+            .row(row -> new long[]{row.getKey(), row.getParentKey(), row.reference(products)})
+            .sink(lines::add);
+
+        new Dataset.Builder()
+            .random(new RandomService(new Random(5)))
+            .tables(products, customers, orderTable, lineTable)
+            .chunkSize(100)
+            .build()
+            .generate();
+
+        assertEquals(1000, customerKeys.size());
+        assertThat(orders.size() / 1000.0, closeTo(5, 0.5));
+        for (long[] order : orders) {
+            assertTrue(customerKeys.contains(order[1]));
+            assertTrue(orderKeys.add(order[0]), "order keys should be unique");
+        }
+        for (long[] line : lines) {
+            assertTrue(orderKeys.contains(line[1]));
+            assertTrue(line[2] == 100 || line[2] == 200 || line[2] == 300);
+        }
+        assertThat(lines.size(), greaterThanOrEqualTo(orders.size()));
+        assertThat(lines.size(), lessThanOrEqualTo(orders.size() * 3));
+    }
+
+    @Test
+    public void resultDoesNotDependOnParallelism() {
+        assertEquals(generateOrders(1), generateOrders(4));
+    }
+
+    private List<String> generateOrders(int parallelism) {
+        Set<String> result = ConcurrentHashMap.newKeySet();
+        Dataset.Table<Long> customers = new Dataset.Table<Long>("customers")
+            .keys(Dataset.KeyPool.sequence(10_000))
+            .row(Dataset.Row::getKey)
+            .sink(key -> { });
+        Dataset.Table<String> orders = new Dataset.Table<String>("orders")
+            .parent(customers, Dataset.FanOut.zipf(10, 1.2))
+            .row(row -> row.getKey() + "," + row.getParentKey() + "," + row.getRandom().nextInt(1000))
+            .sink(result::add);
+        new Dataset.Builder()
+            .random(new RandomService(new Random(11)))
+            .tables(customers, orders)
+            .parallelism(parallelism)
+            .chunkSize(512)
+            .build()
+            .generate();
+        List<String> sorted = new ArrayList<>(result);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Test
+    public void fixedFanOut() {
+        long[] count = new long[1];
+        Dataset.Table<Long> parents = new Dataset.Table<Long>("parents")
+            .keys(Dataset.KeyPool.mapped(10, index -> index * 7))
+            .row(Dataset.Row::getKey)
+            .sink(key -> assertThat(key % 7, lessThan(1L)));
+        Dataset.Table<Long> children = new Dataset.Table<Long>("children")
+            .parent(parents, Dataset.FanOut.fixed(3))
+            .row(Dataset.Row::getIndex)
+            .sink(index -> count[0]++);
+        new Dataset.Builder().tables(parents, children).build().generate();
+        assertEquals(30, count[0]);
+    }
+
+    @Test
+    public void invalidTables() {
+        Dataset.Table<Long> noKeys = new Dataset.Table<Long>("no keys")
+            .row(Dataset.Row::getKey)
+            .sink(key -> { });
+        assertThrows(IllegalArgumentException.class, () -> new Dataset.Builder().tables(noKeys).build());
+
+        Dataset.Table<Long> orphan = new Dataset.Table<Long>("orphan")
+            .parent(new Dataset.Table<Long>("missing"), Dataset.FanOut.fixed(1))
+            .row(Dataset.Row::getKey)
+            .sink(key -> { });
+        assertThrows(IllegalArgumentException.class, () -> new Dataset.Builder().tables(orphan).build());
+    }
+}
@@ -2,7 +2,13 @@
 
 import org.junit.jupiter.api.Test;
 
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -10,10 +16,12 @@
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -21,6 +29,15 @@
  */
 public class DateAndTimeTest extends AbstractFakerTest {
 
+    @Test
+    public void testStringPatternsKeepSimpleDateFormatMeaning() {
+        Date from = new Date(1_600_000_000_123L);
+        Date to = new Date(from.getTime() + 1);
+        String pattern = "yyyy-MM-dd u S";
+        assertEquals(new SimpleDateFormat(pattern).format(from), faker.date().between(from, to, pattern));
+        assertEquals(new SimpleDateFormat(pattern).format(from), faker.date().between(from, to, pattern));
+    }
+
     @Test
     public void testFutureDate() {
         Date now = new Date();
@@ -151,4 +168,72 @@ public void pastWithMask() {
         DateTimeFormatter.ofPattern(pattern).parse(faker.date().past(20, 1, TimeUnit.DAYS, pattern));
         DateTimeFormatter.ofPattern(pattern).parse(faker.date().past(1, TimeUnit.DAYS, new Date(), pattern));
     }
+
+    @Test
+    public void testLocalDate() {
+        LocalDate from = LocalDate.of(2000, 1, 1);
+        LocalDate to = LocalDate.of(2000, 2, 1);
+        for (int i = 0; i < 1000; i++) {
+            LocalDate date = faker.date().localDate(from, to);
+            assertThat(date.isBefore(from), is(false));
+            assertThat(date.isBefore(to), is(true));
+        }
+        assertEquals(from, faker.date().localDate(from, from));
+    }
+
+    @Test
+    public void testInstantAndOffsetDateTime() {
+        Instant from = Instant.parse("2020-01-01T00:00:00Z");
+        Instant to = Instant.parse("2020-01-01T00:00:01Z");
+        for (int i = 0; i < 1000; i++) {
+            Instant instant = faker.date().instant(from, to);
+            assertThat(instant.toEpochMilli(), greaterThanOrEqualTo(from.toEpochMilli()));
+            assertThat(instant.toEpochMilli(), lessThan(to.toEpochMilli()));
+            OffsetDateTime dateTime = faker.date().offsetDateTime(from, to, ZoneOffset.ofHours(3));
+            assertEquals(ZoneOffset.ofHours(3), dateTime.getOffset());
+            assertEquals(3, dateTime.getHour());
+        }
+    }
+
+    @Test
+    public void testEpochMillisInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> faker.date().epochMillis(10, 5));
+    }
+
+    @Test
+    public void testBirthdayLocalDate() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 1000; i++) {
+            LocalDate birthday = faker.date().birthdayLocalDate(18, 65);
+            assertThat(birthday.isAfter(today.minusYears(18)), is(false));
+            assertThat(birthday.isBefore(today.minusYears(65).minusDays(1)), is(false));
+        }
+    }
+
+    @Test
+    public void testSortedEpochMillis() {
+        long[] values = new long[10_000];
+        long from = 1_600_000_000_000L;
+        long to = from + TimeUnit.DAYS.toMillis(1);
+        faker.date().sortedEpochMillis(values, from, to);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i], greaterThanOrEqualTo(from));
+            assertThat(values[i], lessThan(to));
+            if (i > 0) {
+                assertThat(values[i], greaterThanOrEqualTo(values[i - 1]));
+            }
+        }
+        // uniform: about half of the values are in the first half of the window
+        long middle = from + (to - from) / 2;
+        long firstHalf = Arrays.stream(values).filter(v -> v < middle).count();
+        assertThat(firstHalf, greaterThan(4500L));
+        assertThat(firstHalf, lessThan(5500L));
+    }
+
+    @Test
+    public void testFormat() {
+        LocalDate date = LocalDate.of(2021, 3, 4);
+        assertEquals("2021-03-04", faker.date().format(date, "yyyy-MM-dd"));
+        assertEquals("04.03.2021", faker.date().format(date, "dd.MM.yyyy"));
+    }
 }
@@ -1,12 +1,20 @@
 package net.datafaker;
 
+import org.apache.commons.validator.routines.checkdigit.IBANCheckDigit;
 import org.apache.commons.validator.routines.checkdigit.LuhnCheckDigit;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
 import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FinanceTest extends AbstractFakerTest {
@@ -52,4 +60,67 @@ public void costaRicaIbanMustBeValid() {
         final String ibanFaker = faker.finance().iban(givenCountryCode).toUpperCase(faker.getLocale());
         assertTrue(fr.marcwrobel.jbanking.iban.Iban.isValid(ibanFaker));
     }
+
+    @RepeatedTest(100)
+    public void ibanCheckDigitsAreValid() {
+        assertTrue(IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(faker.finance().iban()));
+    }
+
+    @Test
+    public void ibanIsReproducible() {
+        final Faker first = new Faker(new Random(42));
+        final Faker second = new Faker(new Random(42));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.finance().iban(), second.finance().iban());
+        }
+    }
+
+    @Test
+    public void ibanWithUnsupportedCountryCode() {
+        assertThrows(IllegalArgumentException.class, () -> faker.finance().iban("XX"));
+    }
+
+    @Test
+    public void ibanGeneratorWritesIntoBuffer() {
+        final Finance.IbanGenerator generator = faker.finance().ibanGenerator("GB", false);
+        final char[] buffer = new char[2 * generator.length()];
+        int offset = 0;
+        while (offset < buffer.length) {
+            offset = generator.next(buffer, offset);
+        }
+        for (int i = 0; i < 2; i++) {
+            final String iban = new String(buffer, i * generator.length(), generator.length());
+            assertThat(iban, matchesRegularExpression("GB\\d{2}[A-Z]{4}\\d{14}"));
+            assertTrue(IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(iban));
+        }
+    }
+
+    @Test
+    public void uniqueIbanGeneratorNeverRepeats() {
+        final Finance.IbanGenerator generator = faker.finance().ibanGenerator("DE", true);
+        final Set<String> ibans = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            final String iban = generator.next();
+            assertTrue(IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(iban));
+            assertTrue(ibans.add(iban), iban);
+        }
+    }
+
+    @Test
+    public void ibanGeneratorCapacity() {
+        final Finance.IbanGenerator generator = faker.finance().ibanGenerator("CR", true);
+        assertTrue(generator.capacity() > 1_000_000);
+        final Finance.IbanGenerator unlimited = faker.finance().ibanGenerator("CR", false);
+        assertEquals(Long.MAX_VALUE, unlimited.capacity());
+        assertThrows(IndexOutOfBoundsException.class, () -> unlimited.next(new char[10], 0));
+    }
+
+    @Test
+    public void creditCardWritesIntoBuffer() {
+        final char[] buffer = new char[32];
+        for (CreditCardType type : CreditCardType.values()) {
+            final int end = faker.finance().creditCard(type, buffer, 0);
+            assertCardLuhnDigit(new String(buffer, 0, end));
+        }
+    }
 }
@@ -11,6 +11,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -87,6 +88,13 @@ public void testSafeEmailAddressDoesNotIncludeAccentsInTheLocalPart() {
         assertThat(emailAddress, startsWith("aeiou@"));
     }
 
+    @Test
+    public void testEmailAddressStripsAccentsInEveryPartOfTheLocalPart() {
+        assertThat(faker.internet().emailAddress("ána.ʰbé.c^ő."), startsWith("ana.be.co.@"));
+        assertThat(faker.internet().emailAddress("ána.ʰbé.c^ő."), startsWith("ana.be.co.@"));
+        assertThat(faker.internet().emailAddress("plain.ascii"), startsWith("plain.ascii@"));
+    }
+
     @Test
     public void testUrl() {
         assertThat(faker.internet().url(), matchesRegularExpression("www\\.(\\w|-)+\\.\\w+"));
@@ -318,6 +326,16 @@ public void testUuid() {
         assertThat(faker.internet().uuid(), matchesRegularExpression("^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$"));
     }
 
+    @Test
+    public void testUuidIsReproducible() {
+        assertThat(new Faker(new Random(42)).internet().uuid(), is(new Faker(new Random(42)).internet().uuid()));
+    }
+
+    @Test
+    public void testUuidv7() {
+        assertThat(faker.internet().uuidv7(), matchesRegularExpression("^[0-9a-f]{8}-[0-9a-f]{4}-7[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$"));
+    }
+
     @RepeatedTest(100)
     public void testFarsiIDNs() {
         // in this case, we're just making sure Farsi doesn't blow up.
@@ -4,8 +4,12 @@
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -195,4 +199,42 @@ public void testSentencesWithCount() {
         int matches = StringUtils.countMatches(paragraph, ".");
         assertThat(matches, is(both(greaterThanOrEqualTo(1)).and(lessThanOrEqualTo(3))));
     }
+
+    @Test
+    public void testAppendableMatchesStringMethods() throws IOException {
+        StringBuilder paragraph = new StringBuilder();
+        new Faker(new Random(5)).lorem().paragraph(paragraph, 3);
+        assertEquals(new Faker(new Random(5)).lorem().paragraph(3), paragraph.toString());
+
+        StringBuilder sentence = new StringBuilder();
+        new Faker(new Random(6)).lorem().sentence(sentence, 4, 2);
+        assertEquals(new Faker(new Random(6)).lorem().sentence(4, 2), sentence.toString());
+
+        StringBuilder words = new StringBuilder();
+        new Faker(new Random(7)).lorem().words(words, 5);
+        assertEquals(String.join(" ", new Faker(new Random(7)).lorem().words(5)), words.toString());
+    }
+
+    @Test
+    public void testParagraphsWithCharacterBudget() throws IOException {
+        for (int length : new int[]{0, 1, 17, 1000, 100_000}) {
+            StringBuilder sb = new StringBuilder();
+            faker.lorem().paragraphs(sb, length);
+            assertEquals(length, sb.length());
+        }
+        StringBuilder sb = new StringBuilder();
+        faker.lorem().paragraphs(sb, 10_000);
+        assertThat(sb.toString(), matchesRegularExpression("[A-Z][A-Za-z .\\n]+"));
+    }
+
+    @Test
+    public void testParagraphsWithByteBudget() throws IOException {
+        Faker japanese = new Faker(new Locale("ja"));
+        for (int bytes : new int[]{0, 2, 100, 10_000}) {
+            StringWriter writer = new StringWriter();
+            japanese.lorem().paragraphsUtf8(writer, bytes);
+            int length = writer.toString().getBytes(StandardCharsets.UTF_8).length;
+            assertThat(length, is(both(greaterThanOrEqualTo(Math.max(0, bytes - 3))).and(lessThanOrEqualTo(bytes))));
+        }
+    }
 }
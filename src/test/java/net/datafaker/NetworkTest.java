@@ -0,0 +1,125 @@
+package net.datafaker;
+
+import net.datafaker.service.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NetworkTest {
+    private final RandomService random = new RandomService(new Random(7));
+
+    @Test
+    public void formatIpV4MatchesInetAddress() throws Exception {
+        char[] buffer = new char[Network.MAX_IPV4_LENGTH];
+        for (int i = 0; i < 1000; i++) {
+            int address = random.nextInt();
+            int end = Network.formatIpV4(address, buffer, 0);
+            assertEquals(InetAddress.getByAddress(Network.toBytes(address)).getHostAddress(), new String(buffer, 0, end));
+        }
+        assertEquals("255.255.255.255", Network.ipV4ToString(-1));
+        assertEquals("0.0.0.0", Network.ipV4ToString(0));
+    }
+
+    @Test
+    public void formatIpV6MatchesInetAddress() throws Exception {
+        char[] buffer = new char[Network.MAX_IPV6_LENGTH];
+        long[] addresses = new long[2000];
+        Network.ipV6(random, addresses);
+        addresses[0] = 0;
+        addresses[1] = 0xFFFF_0000_0001_0010L;
+        for (int i = 0; i < addresses.length; i += 2) {
+            int end = Network.formatIpV6(addresses[i], addresses[i + 1], buffer, 0);
+            assertEquals(InetAddress.getByAddress(Network.toBytes(addresses[i], addresses[i + 1])).getHostAddress(),
+                new String(buffer, 0, end));
+        }
+    }
+
+    @Test
+    public void formatMac() {
+        char[] buffer = new char[Network.MAC_LENGTH];
+        assertEquals(Network.MAC_LENGTH, Network.formatMac(0x0A1B2C3D4E5FL, buffer, 0));
+        assertEquals("0a:1b:2c:3d:4e:5f", new String(buffer));
+        assertTrue(Network.mac(random) < 1L << 48);
+    }
+
+    @Test
+    public void privateAndPublicAddresses() {
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(Network.isPrivate(Network.privateIpV4(random)));
+            assertFalse(Network.isPrivate(Network.publicIpV4(random)));
+        }
+    }
+
+    @Test
+    public void cidr() {
+        Network.Cidr cidr = Network.Cidr.parse("192.168.17.5/20");
+        assertEquals("192.168.16.0/20", cidr.toString());
+        assertEquals(4096, cidr.size());
+        assertEquals("192.168.31.255", Network.ipV4ToString(cidr.address(4095)));
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(cidr.contains(cidr.random(random)));
+        }
+        assertEquals(1L << 32, Network.Cidr.parse("0.0.0.0/0").size());
+        assertThrows(IllegalArgumentException.class, () -> Network.Cidr.parse("10.0.0.0"));
+        assertThrows(IllegalArgumentException.class, () -> Network.Cidr.parse("10.0.0.256/8"));
+        assertThrows(IllegalArgumentException.class, () -> Network.Cidr.parse("10.0.0.0/33"));
+    }
+
+    @Test
+    public void uniqueAddressesCoverTheWholeBlock() {
+        Network.Cidr cidr = Network.Cidr.parse("10.1.0.0/17");
+        PrimitiveIterator.OfInt addresses = cidr.uniqueAddresses(random);
+        BitSet seen = new BitSet();
+        int count = 0;
+        while (addresses.hasNext()) {
+            int address = addresses.nextInt();
+            assertTrue(cidr.contains(address));
+            int host = address - cidr.getNetwork();
+            assertFalse(seen.get(host));
+            seen.set(host);
+            count++;
+        }
+        assertEquals(cidr.size(), count);
+        assertThrows(java.util.NoSuchElementException.class, addresses::nextInt);
+    }
+
+    @Test
+    public void flows() {
+        Network.Cidr sources = Network.Cidr.parse("10.0.0.0/24");
+        Network.Cidr destinations = Network.Cidr.parse("172.16.0.0/12");
+        Network.FlowGenerator generator = new Network.FlowGenerator.Builder()
+            .random(random)
+            .sources(sources)
+            .destinations(destinations)
+            .build();
+        Network.Flows flows = new Network.Flows(10_000);
+        generator.fill(flows);
+        int https = 0;
+        for (int i = 0; i < flows.size(); i++) {
+            assertTrue(sources.contains(flows.getSourceAddresses()[i]));
+            assertTrue(destinations.contains(flows.getDestinationAddresses()[i]));
+            byte protocol = flows.getProtocols()[i];
+            if (protocol == Network.ICMP) {
+                assertEquals(0, flows.getSourcePorts()[i]);
+                assertEquals(0, flows.getDestinationPorts()[i]);
+            } else {
+                assertTrue(flows.getSourcePorts()[i] >= 49152 && flows.getSourcePorts()[i] <= 65535);
+            }
+            if (flows.getDestinationPorts()[i] == 443) {
+                assertEquals(Network.TCP, protocol);
+                https++;
+            }
+        }
+        assertThat(https / 10_000.0, closeTo(0.45, 0.03));
+    }
+}
@@ -7,6 +7,8 @@
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +20,7 @@
 
 import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.equalTo;
@@ -26,7 +29,9 @@
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class NumberTest extends AbstractFakerTest {
@@ -467,4 +472,175 @@ public void testNumberBetweenBorder() {
             }
         }
     }
+
+    @Test
+    public void testGaussian() {
+        double[] values = new double[100_000];
+        faker.number().gaussianDistribution(10, 2).fill(values);
+        assertThat(mean(values), closeTo(10, 0.05));
+        assertThat(Math.sqrt(variance(values)), closeTo(2, 0.05));
+    }
+
+    @Test
+    public void testExponential() {
+        double[] values = new double[100_000];
+        faker.number().exponentialDistribution(4).fill(values);
+        assertThat(mean(values), closeTo(0.25, 0.01));
+        for (double value : values) {
+            assertThat(value, greaterThanOrEqualTo(0.0));
+        }
+        assertThat(faker.number().exponential(4), greaterThanOrEqualTo(0.0));
+    }
+
+    @Test
+    public void testPoisson() {
+        for (double mean : new double[]{0.5, 7, 42, 10_000}) {
+            long[] values = new long[100_000];
+            faker.number().poissonDistribution(mean).fill(values);
+            double[] doubles = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                assertThat(values[i], greaterThanOrEqualTo(0L));
+                doubles[i] = values[i];
+            }
+            assertThat(mean(doubles), closeTo(mean, 0.02 * mean));
+            assertThat(variance(doubles), closeTo(mean, 0.05 * mean));
+        }
+        assertThat(faker.number().poisson(3), greaterThanOrEqualTo(0L));
+    }
+
+    @Test
+    public void testLogNormal() {
+        double[] values = new double[100_000];
+        faker.number().logNormalDistribution(0, 0.5).fill(values);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i], greaterThan(0.0));
+            values[i] = Math.log(values[i]);
+        }
+        assertThat(mean(values), closeTo(0, 0.01));
+        assertThat(faker.number().logNormal(0, 0.5), greaterThan(0.0));
+    }
+
+    @Test
+    public void testInvalidStandardDeviationsAreRejected() {
+        for (double deviation : new double[]{-1, Double.NaN}) {
+            assertThrows(IllegalArgumentException.class, () -> faker.number().gaussian(0, deviation));
+            assertThrows(IllegalArgumentException.class, () -> faker.number().gaussianDistribution(0, deviation));
+            assertThrows(IllegalArgumentException.class, () -> faker.number().logNormal(0, deviation));
+            assertThrows(IllegalArgumentException.class, () -> faker.number().logNormalDistribution(0, deviation));
+        }
+    }
+
+    @Test
+    public void testPareto() {
+        double[] values = new double[100_000];
+        faker.number().paretoDistribution(2, 3).fill(values);
+        for (double value : values) {
+            assertThat(value, greaterThanOrEqualTo(2.0));
+        }
+        // mean is shape * scale / (shape - 1)
+        assertThat(mean(values), closeTo(3, 0.05));
+        assertThat(faker.number().pareto(2, 3), greaterThanOrEqualTo(2.0));
+    }
+
+    @Test
+    public void testDistributionsAreReproducibleWithSeed() {
+        Faker first = new Faker(new Random(42));
+        Faker second = new Faker(new Random(42));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.number().gaussian(0, 1), second.number().gaussian(0, 1));
+            assertEquals(first.number().poisson(100), second.number().poisson(100));
+        }
+        int[] firstRanks = new int[100];
+        int[] secondRanks = new int[100];
+        first.number().zipfDistribution(1000, 1.1).fill(firstRanks);
+        second.number().zipfDistribution(1000, 1.1).fill(secondRanks);
+        assertArrayEquals(firstRanks, secondRanks);
+    }
+
+    @Test
+    public void testRoundMatchesBigDecimal() {
+        Random random = new Random(13);
+        for (int i = 0; i < 10_000; i++) {
+            double value = (random.nextDouble() - 0.5) * 2_000_000;
+            int decimals = random.nextInt(8);
+            assertEquals(BigDecimal.valueOf(value).setScale(decimals, RoundingMode.HALF_DOWN).doubleValue(),
+                Number.round(value, decimals));
+        }
+        assertEquals(1.5, Number.round(1.55, 1));
+        assertEquals(-1.5, Number.round(-1.55, 1));
+        assertEquals(1e300, Number.round(1e300, 2));
+    }
+
+    @Test
+    public void testRoundAtHalfFollowsTheDecimalRepresentation() {
+        assertEquals(0.022, Number.round(0.021500000000000002, 3));
+        assertEquals(0.021, Number.round(0.0215, 3));
+        assertEquals(0.0, Number.round(-0.0004, 3));
+        Random random = new Random(17);
+        for (int i = 0; i < 10_000; i++) {
+            // odd multiples of a half unit and their neighbours, where the scaled double is off by a few ulps
+            double half = (random.nextInt(2_000_000) * 2 + 1 - 2_000_000) / 2000.0;
+            double value = random.nextBoolean() ? half : Math.nextUp(half);
+            assertEquals(BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_DOWN).doubleValue(),
+                Number.round(value, 2));
+        }
+    }
+
+    @Test
+    public void testRandomDoubles() {
+        double[] values = new double[1000];
+        faker.number().randomDoubles(values, 2, 10, 20);
+        for (double value : values) {
+            assertThat(value, is(greaterThanOrEqualTo(10.0)));
+            assertThat(value, is(lessThanOrEqualTo(20.0)));
+            assertThat(BigDecimal.valueOf(value).stripTrailingZeros().scale(), is(lessThanOrEqualTo(2)));
+        }
+    }
+
+    @Test
+    public void testNumbersBetween() {
+        int[] ints = new int[1000];
+        faker.number().numbersBetween(ints, 5, 10);
+        for (int value : ints) {
+            assertThat(value, is(greaterThanOrEqualTo(5)));
+            assertThat(value, is(lessThan(10)));
+        }
+        long[] longs = new long[1000];
+        faker.number().numbersBetween(longs, 5_000_000_000L, 6_000_000_000L);
+        for (long value : longs) {
+            assertThat(value, is(greaterThanOrEqualTo(5_000_000_000L)));
+            assertThat(value, is(lessThan(6_000_000_000L)));
+        }
+    }
+
+    @Test
+    public void testDigitsIntoBuffer() {
+        char[] buffer = new char[30];
+        Arrays.fill(buffer, 'x');
+        faker.number().digits(buffer, 5, 20);
+        String result = new String(buffer);
+        assertThat(result, matchesRegularExpression("x{5}\\d{20}x{5}"));
+
+        StringBuilder sb = new StringBuilder("id-");
+        faker.number().digits(sb, 12);
+        assertThat(sb.toString(), matchesRegularExpression("id-\\d{12}"));
+        assertThat(faker.number().digits(25), matchesRegularExpression("\\d{25}"));
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double variance(double[] values) {
+        final double mean = mean(values);
+        double sum = 0;
+        for (double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return sum / (values.length - 1);
+    }
 }
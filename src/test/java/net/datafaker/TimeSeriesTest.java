@@ -0,0 +1,158 @@
+package net.datafaker;
+
+import net.datafaker.service.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TimeSeriesTest extends AbstractFakerTest {
+    private static final Instant START = Instant.parse("2022-01-01T00:00:00Z");
+
+    @Test
+    public void poissonTimestampsAreIncreasing() {
+        List<Long> timestamps = new ArrayList<>();
+        new TimeSeries.Builder<Long>(new RandomService(new Random(1)))
+            .start(START)
+            .arrivals(TimeSeries.ArrivalProcess.poisson(1000))
+            .event(TimeSeries.Tick::getEpochNanos)
+            .limit(100_000)
+            .build()
+            .forEach(timestamps::add);
+
+        assertEquals(100_000, timestamps.size());
+        long startNanos = TimeUnit.SECONDS.toNanos(START.getEpochSecond());
+        assertEquals(startNanos, (long) timestamps.get(0));
+        for (int i = 1; i < timestamps.size(); i++) {
+            assertThat(timestamps.get(i), greaterThan(timestamps.get(i - 1)));
+        }
+        // 100 000 events with 1000 events per second take about 100 seconds
+        double seconds = (timestamps.get(timestamps.size() - 1) - startNanos) / 1e9;
+        assertThat(seconds, closeTo(100, 2));
+    }
+
+    @Test
+    public void fixedRateWithEnd() {
+        Iterator<Instant> iterator = TimeSeries.<Instant>builder(faker)
+            .start(START)
+            .end(START.plusSeconds(1))
+            .arrivals(TimeSeries.ArrivalProcess.fixedRate(10))
+            .event(TimeSeries.Tick::getInstant)
+            .build()
+            .iterator();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(START.plusMillis(100L * i), iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void burstyAndDiurnalRates() {
+        long bursty = new TimeSeries.Builder<Long>(new RandomService(new Random(3)))
+            .start(START)
+            .end(START.plus(Duration.ofHours(1)))
+            .arrivals(TimeSeries.ArrivalProcess.bursty(1, 100, Duration.ofMinutes(9), Duration.ofMinutes(1)))
+            .event(TimeSeries.Tick::getSequence)
+            .build()
+            .stream().count();
+        // on average 0.9 * 1 + 0.1 * 100 = 10.9 events per second
+        assertThat(bursty / 3600.0, closeTo(10.9, 6));
+
+        long[] perHour = new long[24];
+        new TimeSeries.Builder<Integer>(new RandomService(new Random(3)))
+            .start(START)
+            .end(START.plus(Duration.ofDays(1)))
+            .arrivals(TimeSeries.ArrivalProcess.diurnal(1, 0.9, 12))
+            .event(tick -> (int) ((tick.getEpochMillis() / 3_600_000) % 24))
+            .build()
+            .forEach(hour -> perHour[hour]++);
+        assertThat(perHour[12], greaterThan(perHour[0] * 5));
+    }
+
+    @Test
+    public void sessions() {
+        Map<Long, Integer> lastIndexes = new HashMap<>();
+        TimeSeries.<long[]>builder(faker)
+            .start(START)
+            .sessions(10, 5)
+            .event(tick -> new long[]{tick.getSessionId(), tick.getSessionEventIndex()})
+            .limit(10_000)
+            .build()
+            .forEach(event -> {
+                int expected = lastIndexes.getOrDefault(event[0], -1) + 1;
+                assertEquals(expected, event[1]);
+                lastIndexes.put(event[0], (int) event[1]);
+            });
+        // about 10 000 / 5 sessions
+        assertThat(lastIndexes.size(), greaterThan(1500));
+        assertThat(lastIndexes.size(), lessThan(2500));
+    }
+
+    @Test
+    public void pacing() {
+        long start = System.nanoTime();
+        long count = TimeSeries.<Long>builder(faker)
+            .event(TimeSeries.Tick::getSequence)
+            .pacing(1000)
+            .limit(201)
+            .build()
+            .stream().count();
+        assertEquals(201, count);
+        assertThat(System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190)));
+    }
+
+    @Test
+    public void seriesOfSeededFakersAreReproducible() {
+        List<List<String>> series = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Faker seeded = new Faker(new Random(7));
+            series.add(TimeSeries.<String>builder(seeded)
+                .start(START)
+                .sessions(10, 5)
+                .event(tick -> tick.getEpochNanos() + "," + tick.getSessionId() + "," + seeded.name().firstName())
+                .limit(1000)
+                .build()
+                .stream()
+                .collect(Collectors.toList()));
+        }
+        assertEquals(series.get(0), series.get(1));
+    }
+
+    @Test
+    public void walkStaysInBoundsAndRevertsToMean() {
+        TimeSeries.Walk walk = new TimeSeries.Walk(faker.random(), 90, 50, 0.1, 2, 0, 100);
+        double sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            double value = walk.sample();
+            assertThat(value, is(greaterThanOrEqualTo(0.0)));
+            assertThat(value, is(lessThanOrEqualTo(100.0)));
+            sum += value;
+        }
+        assertThat(sum / 10_000, closeTo(50, 2));
+    }
+
+    @Test
+    public void eventFactoryIsRequired() {
+        assertThrows(IllegalArgumentException.class, () -> TimeSeries.<String>builder(faker).build());
+        assertThrows(IllegalArgumentException.class, () -> TimeSeries.ArrivalProcess.poisson(0));
+    }
+}
@@ -0,0 +1,65 @@
+package net.datafaker.dispatch;
+
+import net.datafaker.AbstractFakerTest;
+import net.datafaker.Address;
+import net.datafaker.Faker;
+import net.datafaker.Name;
+import net.datafaker.Options;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DispatcherTest extends AbstractFakerTest {
+
+    @Test
+    public void fakerAndItsProvidersAreCovered() {
+        assertTrue(Dispatcher.covers(Faker.class));
+        assertTrue(Dispatcher.covers(Name.class));
+        assertTrue(Dispatcher.covers(Address.class));
+        assertFalse(Dispatcher.covers(String.class));
+        assertNull(Dispatcher.methods(String.class, "length"));
+        assertTrue(Dispatcher.methods(Name.class, "tostring").isEmpty());
+    }
+
+    @Test
+    public void methodsAreMatchedIgnoringCase() throws Exception {
+        final List<DispatchedMethod> methods = Dispatcher.methods(Address.class, "streetname");
+        assertEquals(1, methods.size());
+        assertEquals("streetName", methods.get(0).getName());
+        assertEquals(0, methods.get(0).getParameterCount());
+        final Address first = new Faker(new Random(3)).address();
+        assertEquals(new Faker(new Random(3)).address().streetName(), methods.get(0).invoke(first));
+    }
+
+    @Test
+    public void argumentsAndVarArgs() throws Exception {
+        final DispatchedMethod numberBetween = Dispatcher.methods(net.datafaker.Number.class, "numberbetween").stream()
+            .filter(method -> method.getParameterTypes()[0] == int.class)
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+        assertEquals(5, numberBetween.invoke(faker.number(), 5, 6));
+
+        final DispatchedMethod option = Dispatcher.methods(Options.class, "option").stream()
+            .filter(DispatchedMethod::isVarArgs)
+            .filter(method -> method.getParameterTypes()[0] == Object[].class)
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+        assertArrayEquals(new Class<?>[]{Object[].class}, option.getParameterTypes());
+        assertEquals("a", option.invoke(faker.options(), (Object) new String[]{"a"}));
+    }
+
+    @Test
+    public void expressionsUseTheDispatchedMethods() {
+        assertEquals(new Faker(new Random(5)).name().firstName(), new Faker(new Random(5)).expression("#{Name.first_name}"));
+        final int number = Integer.parseInt(faker.expression("#{number.number_between '1','10'}"));
+        assertTrue(number >= 1 && number < 10);
+        assertTrue(faker.expression("#{options.option 'a','b'}").matches("[ab]"));
+    }
+}
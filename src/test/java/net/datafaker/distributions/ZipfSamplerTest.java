@@ -0,0 +1,53 @@
+package net.datafaker.distributions;
+
+import net.datafaker.service.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ZipfSamplerTest {
+
+    @Test
+    public void precomputedTableFollowsPowerLaw() {
+        checkFrequencies(new ZipfSampler(new RandomService(new Random(7)), 1000, 1.0), 1000);
+    }
+
+    @Test
+    public void rejectionInversionFollowsPowerLaw() {
+        int numberOfElements = ZipfSampler.TABLE_THRESHOLD * 4;
+        checkFrequencies(new ZipfSampler(new RandomService(new Random(7)), numberOfElements, 1.0), numberOfElements);
+    }
+
+    @Test
+    public void invalidArguments() {
+        RandomService randomService = new RandomService();
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(randomService, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(randomService, 10, 0));
+    }
+
+    private void checkFrequencies(ZipfSampler sampler, int numberOfElements) {
+        int[] ranks = new int[200_000];
+        sampler.fill(ranks);
+        int first = 0;
+        int second = 0;
+        for (int rank : ranks) {
+            assertThat(rank, greaterThanOrEqualTo(1));
+            assertThat(rank, lessThanOrEqualTo(numberOfElements));
+            if (rank == 1) first++;
+            if (rank == 2) second++;
+        }
+        // with exponent 1 the first rank is twice as frequent as the second one
+        assertThat(first / (double) second, closeTo(2, 0.1));
+        double harmonic = 0;
+        for (int i = 1; i <= numberOfElements; i++) {
+            harmonic += 1.0 / i;
+        }
+        assertThat(first / (double) ranks.length, closeTo(1 / harmonic, 0.01));
+    }
+}
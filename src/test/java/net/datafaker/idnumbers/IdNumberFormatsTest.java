@@ -0,0 +1,173 @@
+package net.datafaker.idnumbers;
+
+import net.datafaker.AbstractFakerTest;
+import net.datafaker.Faker;
+import net.datafaker.idnumbers.PeselNumber.Gender;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static net.datafaker.idnumbers.pt.br.IdNumberGeneratorPtBrUtil.isCNPJValid;
+import static net.datafaker.idnumbers.pt.br.IdNumberGeneratorPtBrUtil.isCPFValid;
+import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdNumberFormatsTest extends AbstractFakerTest {
+
+    private static final LocalDate FROM = LocalDate.of(1950, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2019, 12, 31);
+
+    @Test
+    public void enSsnSkipsUnassignedNumbers() {
+        final IdNumberFormat format = IdNumberFormats.enSsn();
+        assertEquals("001-01-0001", format.get(0));
+        assertEquals("899-99-9999", format.get(format.size() - 1));
+        assertEquals("667-01-0001", format.get(665L * 99 * 9999));
+        for (int i = 0; i < 1000; i++) {
+            final String ssn = format.random(faker.random());
+            assertThat(ssn, matchesRegularExpression("[0-8]\\d{2}-\\d{2}-\\d{4}"));
+            assertTrue(!ssn.startsWith("000") && !ssn.startsWith("666") && !ssn.contains("-00-") && !ssn.endsWith("0000"), ssn);
+        }
+    }
+
+    @Test
+    public void svSeNumbersAreValid() {
+        final SvSEIdNumber validator = new SvSEIdNumber();
+        final IdNumberFormat format = IdNumberFormats.svSe(FROM, TO);
+        new IdNumberGenerator(format, faker.random(), true).generate(10_000,
+            ssn -> assertTrue(validator.validSwedishSsn(ssn.toString()), ssn::toString));
+        assertEquals('+', IdNumberFormats.svSe(LocalDate.of(1900, 1, 1), TO).get(0).charAt(6));
+    }
+
+    @Test
+    public void enZaNumbersAreValid() {
+        final EnZAIdNumber validator = new EnZAIdNumber();
+        final IdNumberFormat format = IdNumberFormats.enZa(FROM, TO);
+        new IdNumberGenerator(format, faker.random(), false).generate(10_000,
+            ssn -> assertTrue(validator.validSsn(ssn.toString()), ssn::toString));
+    }
+
+    @Test
+    public void brazilianNumbersAreValid() {
+        for (boolean formatted : new boolean[]{false, true}) {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(isCPFValid(IdNumberFormats.cpf(formatted).random(faker.random())));
+                assertTrue(isCNPJValid(IdNumberFormats.cnpj(formatted).random(faker.random())));
+            }
+        }
+        assertThat(IdNumberFormats.cnpj(true).get(0), matchesRegularExpression("00\\.000\\.000/0001-\\d{2}"));
+    }
+
+    @Test
+    public void peselHasGenderAndControlDigit() {
+        final LocalDate birthDate = LocalDate.of(2005, 3, 14);
+        final IdNumberFormat format = IdNumberFormats.pesel(birthDate, birthDate, Gender.FEMALE);
+        assertEquals(5000, format.size());
+        for (long i = 0; i < format.size(); i++) {
+            final String pesel = format.get(i);
+            assertTrue(pesel.startsWith("052314"), pesel);
+            assertEquals(0, (pesel.charAt(9) - '0') % 2);
+            final int[] weights = {1, 3, 7, 9, 1, 3, 7, 9, 1, 3, 1};
+            int sum = 0;
+            for (int j = 0; j < weights.length; j++) {
+                sum += (pesel.charAt(j) - '0') * weights[j];
+            }
+            assertEquals(0, sum % 10, pesel);
+        }
+    }
+
+    @Test
+    public void zhCnNumbersAreValid() {
+        final LocalDate birthDate = LocalDate.of(1949, 12, 31);
+        final int location = Arrays.asList(ZhCnIdNumber.LOCATIONS).indexOf("110105");
+        // the example of GB 11643
+        assertEquals("11010519491231002X", IdNumberFormats.zhCn(birthDate, birthDate).get(location * 1000L + 2));
+
+        final Set<String> locations = new HashSet<>(Arrays.asList(ZhCnIdNumber.LOCATIONS));
+        final IdNumberFormat format = IdNumberFormats.zhCn(FROM, TO);
+        for (int i = 0; i < 10_000; i++) {
+            final String id = format.random(faker.random());
+            assertThat(id, matchesRegularExpression("\\d{17}[\\dX]"));
+            assertTrue(locations.contains(id.substring(0, 6)), id);
+            final LocalDate date = LocalDate.of(Integer.parseInt(id.substring(6, 10)),
+                Integer.parseInt(id.substring(10, 12)), Integer.parseInt(id.substring(12, 14)));
+            assertTrue(!date.isBefore(FROM) && !date.isAfter(TO), id);
+            // ISO 7064 MOD 11-2: the weights are 2^(17 - i) mod 11 and X stands for 10
+            int sum = id.charAt(17) == 'X' ? 10 : id.charAt(17) - '0';
+            for (int j = 0; j < 17; j++) {
+                sum += (id.charAt(j) - '0') * ((1 << (17 - j)) % 11);
+            }
+            assertEquals(1, sum % 11, id);
+        }
+    }
+
+    @Test
+    public void esMxUsesDigitsBefore2000AndLettersSince() {
+        final IdNumberFormat format = IdNumberFormats.esMx(LocalDate.of(1999, 12, 31), LocalDate.of(2000, 1, 1));
+        for (int i = 0; i < 1000; i++) {
+            final String curp = format.random(faker.random());
+            assertThat(curp, matchesRegularExpression("[A-Z]{4}(991231[HM][A-Z]{5}\\d|000101[HM][A-Z]{6})\\d"));
+        }
+    }
+
+    @Test
+    public void everyIndexHasADistinctIdentifier() {
+        final List<IdNumberFormat> formats = new ArrayList<>();
+        formats.add(IdNumberFormats.svSe(LocalDate.of(1920, 1, 1), LocalDate.of(1920, 1, 2)));
+        formats.add(IdNumberFormats.enZa(LocalDate.of(1999, 2, 28), LocalDate.of(1999, 3, 1)));
+        formats.add(IdNumberFormats.pesel(LocalDate.of(1899, 12, 31), LocalDate.of(1900, 1, 1), null));
+        for (IdNumberFormat format : formats) {
+            final Set<String> identifiers = new HashSet<>();
+            for (long i = 0; i < format.size(); i++) {
+                final String identifier = format.get(i);
+                assertEquals(format.length(), identifier.length());
+                assertTrue(identifiers.add(identifier), identifier);
+            }
+        }
+    }
+
+    @Test
+    public void uniqueGeneratorIsExhausted() {
+        final LocalDate birthDate = LocalDate.of(1980, 5, 1);
+        final IdNumberGenerator generator =
+            new IdNumberGenerator(IdNumberFormats.pesel(birthDate, birthDate, Gender.MALE), faker.random(), true);
+        final Set<String> pesels = new HashSet<>();
+        generator.generate(4000, pesel -> pesels.add(pesel.toString()));
+        assertEquals(1000, generator.remaining());
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(1001, pesel -> { }));
+        final char[] buffer = new char[PeselNumber.PESEL_LENGTH];
+        while (generator.remaining() > 0) {
+            generator.next(buffer, 0);
+            pesels.add(new String(buffer));
+        }
+        assertEquals(5000, pesels.size());
+        assertThrows(NoSuchElementException.class, generator::next);
+    }
+
+    @Test
+    public void generatorIsReproducible() {
+        final IdNumberGenerator first = new Faker(new Random(7)).idNumber().generator(IdNumberFormats.cpf(true), true);
+        final IdNumberGenerator second = new Faker(new Random(7)).idNumber().generator(IdNumberFormats.cpf(true), true);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.next(), second.next());
+        }
+    }
+
+    @Test
+    public void invalidRanges() {
+        assertThrows(IllegalArgumentException.class, () -> IdNumberFormats.enZa(LocalDate.of(1920, 1, 1), LocalDate.of(2020, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> IdNumberFormats.svSe(TO, FROM));
+        assertThrows(IllegalArgumentException.class, () -> IdNumberFormats.pesel(LocalDate.of(1799, 1, 1), TO, Gender.ANY));
+        assertThrows(IndexOutOfBoundsException.class, () -> IdNumberFormats.enSsn().get(-1));
+    }
+}
@@ -56,9 +56,8 @@ public void testChecksumOfChineseIdNumber() {
         count += (s.charAt(15) - '0') * 4;
         count += (s.charAt(16) - '0') * 2;
         count %= 11;
-        if (count == 10) {
-            if (s.charAt(17) != 'X') isSatisfied = false;
-        } else if ((s.charAt(17) - '0') != count) isSatisfied = false;
+        // ISO 7064 MOD 11-2
+        if (s.charAt(17) != "10X98765432".charAt(count)) isSatisfied = false;
         assertTrue(isSatisfied);
     }
 
@@ -0,0 +1,66 @@
+package net.datafaker.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void evictsTheLeastRecentlyUsedEntries() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(1, cache.get("a"));
+        cache.put("d", 4);
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(4, cache.get("d"));
+        assertEquals(3, cache.size());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(0.8, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void sizeIsBoundedAcrossSegments() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>("test", 5000);
+        for (int i = 0; i < 20_000; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(5000, cache.size());
+        assertEquals(15_000, cache.getEvictionCount());
+        assertEquals(19_999, cache.get(19_999));
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void loaderIsOnlyCalledOnMisses() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 2);
+        assertEquals(1, cache.get("a", String::length));
+        assertEquals(1, cache.get("a", key -> 42));
+        assertEquals(3, cache.get("abc", String::length));
+        assertEquals(2, cache.get("xy", String::length));
+        assertEquals(5, cache.get("a", key -> 5));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void zeroCapacityDisablesCaching() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 0);
+        cache.put("a", "b");
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(0, cache.getHitRate(), 0);
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>("test", -1));
+    }
+}
@@ -15,8 +15,12 @@
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -26,7 +30,9 @@
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.oneOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doReturn;
@@ -334,6 +340,26 @@ public void resolveUsingTheSameKeyTwice() {
         verifyNoMoreInteractions(mockedFaker);
     }
 
+    @Test
+    public void fetchWeightedValues() {
+        FakeValuesService service = new FakeValuesService(new Locale("test"), new RandomService(new Random(42)));
+        int often = 0;
+        for (int i = 0; i < 1000; i++) {
+            String value = service.safeFetch("property.weighted", null);
+            assertThat(value, is(oneOf("often", "rare")));
+            if ("often".equals(value)) {
+                often++;
+            }
+            assertThat(service.fetchString("property.weighted"), is(oneOf("often", "rare")));
+        }
+        assertThat(often, greaterThan(980));
+    }
+
+    @Test
+    public void fetchObjectOfWeightedValuesReturnsValuesOnly() {
+        assertThat(fakeValuesService.fetchObject("property.weighted"), Is.is(Arrays.asList("often", "never", "rare")));
+    }
+
     @Test
     public void FakeValuesServiceWithNullLocaleTest() {
         try {
@@ -345,6 +371,73 @@ public void FakeValuesServiceWithNullLocaleTest() {
         }
     }
 
+    @Test
+    public void cachedExpressionsAreEvaluatedAgain() {
+        final RandomService random = new RandomService(new Random(5));
+        final FakeValuesService service = new FakeValuesService(Locale.ENGLISH, random);
+        final Faker faker = new Faker(service, random);
+        final Set<String> names = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            names.add(faker.expression("#{Name.first_name} #{regexify '[a-z]{6}'}"));
+        }
+        assertThat(names.size(), greaterThan(1));
+        final BoundedCache<?, ?> expressions = service.getCaches().get(0);
+        assertThat(expressions.getName(), is("expressions"));
+        assertThat(expressions.getHitCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void cachedExpressionsAreSharedByTheFakersOfAService() {
+        final String expression = "#{Number.digits '6'} #{numerify '######'}";
+        final FakeValuesService service = new FakeValuesService(Locale.ENGLISH, new RandomService(new Random(1)));
+        new Faker(service, new RandomService(new Random(2))).expression(expression);
+        final BoundedCache<?, ?> expressions = service.getCaches().get(0);
+        final int size = expressions.size();
+        final long hits = expressions.getHitCount();
+
+        final String shared = new Faker(service, new RandomService(new Random(3))).expression(expression);
+        final FakeValuesService other = new FakeValuesService(Locale.ENGLISH, new RandomService(new Random(1)));
+        new Faker(other, new RandomService(new Random(2))).expression(expression);
+        other.getCaches().forEach(BoundedCache::clear);
+        assertThat(shared, is(new Faker(other, new RandomService(new Random(3))).expression(expression)));
+        assertThat(expressions.size(), is(size));
+        assertThat(expressions.getHitCount(), greaterThan(hits));
+    }
+
+    @Test
+    public void preloadRunsOnTheExecutor() {
+        final AtomicInteger tasks = new AtomicInteger();
+        final FakeValuesService service = new FakeValuesService(Locale.GERMANY, new RandomService());
+        service.preload(Arrays.asList("name.first_name", "address"), command -> {
+            tasks.incrementAndGet();
+            command.run();
+        }).join();
+        // de-DE, de and the English name and address files, then their sections
+        assertThat(tasks.get(), greaterThan(4));
+        final FakeValues german = (FakeValues) service.fakeValues(Locale.GERMAN);
+        assertThat(german.isParsed("name"), is(true));
+        assertThat(german.isParsed("address"), is(true));
+        assertThat(german.isParsed("company"), is(false));
+        final FakeValuesGrouping english = (FakeValuesGrouping) service.fakeValues(Locale.ENGLISH);
+        for (FakeValues file : english.getFakeValues("address")) {
+            assertThat(file.isParsed("address"), is(true));
+        }
+        assertThat(service.fetchString("name.first_name"), not(emptyString()));
+    }
+
+    @Test
+    public void preloadAllLoadsEveryLocaleOfTheChain() {
+        final FakeValuesService service = new FakeValuesService(new Locale("test"), new RandomService());
+        service.preloadAll().join();
+        assertThat(service.fetchString("property.dummy"), oneOf("x", "y", "z"));
+        assertThat(service.fetchString("name.first_name"), not(emptyString()));
+    }
+
+    @Test
+    public void preloadOfAnEmptyKeyFails() {
+        assertThrows(IllegalArgumentException.class, () -> fakeValuesService.preload(Arrays.asList("name", "")));
+    }
+
     public static class DummyService {
         public String firstName() {
             return "John";
@@ -10,4 +10,11 @@ public class FakerIDNTest {
     public void toASCIINoError() {
         assertEquals("hello", FakerIDN.toASCII("hello"));
     }
+
+    @Test
+    public void toASCIIIsStable() {
+        assertEquals("xn--bcher-kva.example", FakerIDN.toASCII("bücher.example"));
+        assertEquals("xn--bcher-kva.example", FakerIDN.toASCII("bücher.example"));
+        assertEquals("hello.world", FakerIDN.toASCII("hello.world"));
+    }
 }
\ No newline at end of file
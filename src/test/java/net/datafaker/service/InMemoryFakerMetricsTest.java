@@ -0,0 +1,76 @@
+package net.datafaker.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryFakerMetricsTest {
+
+    @Test
+    public void histogramPercentilesAreUpperBounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentileNanos(0.5));
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(1000, histogram.count());
+        assertEquals(500_500, histogram.totalNanos());
+        assertEquals(1000, histogram.maxNanos());
+        assertEquals(500.5, histogram.meanNanos(), 1e-9);
+        long median = histogram.percentileNanos(0.5);
+        assertTrue(median >= 500 && median < 1000, "median " + median);
+        assertEquals(1000, histogram.percentileNanos(1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentileNanos(1.5));
+    }
+
+    @Test
+    public void recordsAndReports() throws NoSuchMethodException {
+        InMemoryFakerMetrics metrics = new InMemoryFakerMetrics();
+        metrics.keyResolved("name.name", 2_000);
+        metrics.keyResolved("name.name", 4_000);
+        metrics.expressionCacheMiss("#{first_name}");
+        metrics.expressionCacheHit("#{first_name}");
+        metrics.expressionCacheHit("#{first_name}");
+        metrics.reflectiveInvocation(String.class.getMethod("length"), 100);
+        metrics.regexCompiled("[a-z]{3}", 50_000);
+        metrics.yamlLoaded("/en/name.yml", 1024, 1_000_000);
+
+        assertEquals(2, metrics.keyResolutions().get("name.name").count());
+        assertEquals(2, metrics.expressionCacheHits("#{first_name}"));
+        assertEquals(1, metrics.expressionCacheMisses());
+        assertEquals(1, metrics.reflectiveInvocations().get("String.length").count());
+        assertEquals(50_000, metrics.regexCompilations().get("[a-z]{3}").totalNanos());
+        assertEquals(1024, metrics.yamlBytes());
+        String report = metrics.report(10);
+        assertThat(report, containsString("expression cache: 2 hits, 1 misses"));
+        assertThat(report, containsString("name.name: count=2"));
+        assertThat(report, containsString("/en/name.yml"));
+
+        metrics.reset();
+        assertTrue(metrics.keyResolutions().isEmpty());
+        assertEquals(0, metrics.yamlBytes());
+    }
+
+    @Test
+    public void namesAreBounded() {
+        InMemoryFakerMetrics metrics = new InMemoryFakerMetrics();
+        for (int i = 0; i < InMemoryFakerMetrics.MAX_NAMES + 10; i++) {
+            metrics.expressionCacheMiss("#{expression" + i + "}");
+        }
+        assertEquals(InMemoryFakerMetrics.MAX_NAMES + 10, metrics.expressionCacheMisses());
+        assertEquals(10, metrics.expressionCacheMisses(InMemoryFakerMetrics.OTHER));
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(FakerMetrics.ENABLED);
+        assertNull(FakerMetrics.listener());
+        assertThrows(IllegalStateException.class, () -> FakerMetrics.setListener(new InMemoryFakerMetrics()));
+    }
+}
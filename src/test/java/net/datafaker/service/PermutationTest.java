@@ -0,0 +1,49 @@
+package net.datafaker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PermutationTest {
+
+    @Test
+    public void everyValueExactlyOnce() {
+        for (long size : new long[]{1, 2, 3, 7, 64, 1000, 65_537}) {
+            Permutation permutation = new Permutation(size, new RandomService(new Random(size)));
+            BitSet seen = new BitSet();
+            for (long i = 0; i < size; i++) {
+                long value = permutation.apply(i);
+                assertTrue(value >= 0 && value < size);
+                assertTrue(!seen.get((int) value), "duplicate value " + value);
+                seen.set((int) value);
+            }
+            assertEquals(size, seen.cardinality());
+        }
+    }
+
+    @Test
+    public void isShuffled() {
+        Permutation permutation = new Permutation(1000, new RandomService(new Random(1)));
+        int fixedPoints = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (permutation.apply(i) == i) {
+                fixedPoints++;
+            }
+        }
+        assertTrue(fixedPoints < 10);
+    }
+
+    @Test
+    public void hugeRange() {
+        Permutation permutation = new Permutation(Permutation.MAX_SIZE, new RandomService(new Random(2)));
+        assertNotEquals(permutation.apply(0), permutation.apply(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> permutation.apply(Permutation.MAX_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new Permutation(0, new RandomService()));
+    }
+}
@@ -0,0 +1,69 @@
+package net.datafaker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UuidGeneratorTest {
+
+    @Test
+    public void v4HasVersionAndVariant() {
+        RandomService random = new RandomService(new Random(1));
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UuidGenerator.v4(random);
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+    }
+
+    @Test
+    public void v7KeepsTimestamp() {
+        RandomService random = new RandomService(new Random(2));
+        long millis = 1_650_000_000_123L;
+        UUID uuid = UuidGenerator.v7(random, millis);
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(millis, uuid.getMostSignificantBits() >>> 16);
+        assertThrows(IllegalArgumentException.class, () -> UuidGenerator.v7(random, -1));
+    }
+
+    @Test
+    public void sameSeedSameUuids() {
+        assertEquals(UuidGenerator.v4String(new RandomService(new Random(3))),
+            UuidGenerator.v4String(new RandomService(new Random(3))));
+    }
+
+    @Test
+    public void formatMatchesUuidToString() {
+        RandomService random = new RandomService(new Random(4));
+        char[] buffer = new char[UuidGenerator.LENGTH + 2];
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            UuidGenerator.format(uuid, buffer, 1);
+            assertEquals(uuid.toString(), new String(buffer, 1, UuidGenerator.LENGTH));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> UuidGenerator.format(0, 0, buffer, 3));
+    }
+
+    @Test
+    public void bulkPairsMatchSingleValues() {
+        long[] pairs = new long[20];
+        UuidGenerator.v4(new RandomService(new Random(5)), pairs);
+        RandomService random = new RandomService(new Random(5));
+        for (int i = 0; i < pairs.length; i += 2) {
+            assertEquals(UuidGenerator.v4(random), new UUID(pairs[i], pairs[i + 1]));
+        }
+
+        long[] millis = {1L, 2L, 3L};
+        long[] v7 = new long[6];
+        UuidGenerator.v7(new RandomService(new Random(6)), millis, v7);
+        for (int i = 0; i < millis.length; i++) {
+            assertEquals(millis[i], v7[2 * i] >>> 16);
+        }
+        assertThrows(IllegalArgumentException.class, () -> UuidGenerator.v4(random, new long[3]));
+    }
+}
@@ -0,0 +1,66 @@
+package net.datafaker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WeightedListTest {
+
+    @Test
+    public void sampleFollowsWeights() {
+        WeightedList<String> list = new WeightedList<>(Arrays.asList("a", "b", "c"), new double[]{1, 2, 7});
+        RandomService randomService = new RandomService(new Random(1));
+        Map<String, Integer> counts = new HashMap<>();
+        int total = 100_000;
+        for (int i = 0; i < total; i++) {
+            counts.merge(list.sample(randomService), 1, Integer::sum);
+        }
+        assertThat(counts.get("a") / (double) total, closeTo(0.1, 0.01));
+        assertThat(counts.get("b") / (double) total, closeTo(0.2, 0.01));
+        assertThat(counts.get("c") / (double) total, closeTo(0.7, 0.01));
+    }
+
+    @Test
+    public void applyWeightsReplacesOnlyWeightedLists() {
+        Map<String, Object> weighted = new HashMap<>();
+        weighted.put(WeightedList.VALUE, "Smith");
+        weighted.put(WeightedList.WEIGHT, 828);
+        Map<String, Object> yaml = new HashMap<>();
+        yaml.put("last_name", Arrays.asList(weighted, "Johnson"));
+        yaml.put("first_name", Arrays.asList("John", "Jane"));
+
+        WeightedList.applyWeights(yaml);
+
+        assertThat(yaml.get("last_name"), instanceOf(WeightedList.class));
+        assertThat(yaml.get("last_name"), is(Arrays.asList("Smith", "Johnson")));
+        assertThat(yaml.get("first_name") instanceof WeightedList, is(false));
+    }
+
+    @Test
+    public void listIsImmutable() {
+        WeightedList<String> list = new WeightedList<>(Arrays.asList("a", "b"), new double[]{1, 2});
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThat(list, is(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    public void negativeWeightsAreNotAllowed() {
+        List<String> values = Collections.singletonList("a");
+        assertThrows(IllegalArgumentException.class, () -> new WeightedList<>(values, new double[]{-1}));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedList<>(values, new double[]{0}));
+    }
+}
@@ -0,0 +1,104 @@
+package net.datafaker.service;
+
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class YamlSectionsTest {
+
+    @Test
+    public void largeFilesAreParsedSectionBySection() throws IOException {
+        final String text = read("/de.yml");
+        assertTrue(text.length() >= YamlSections.LAZY_THRESHOLD);
+        final Map<String, Object> sections = YamlSections.load(text, "/de.yml", Locale.GERMAN, false, "de");
+        for (Object section : sections.values()) {
+            assertInstanceOf(YamlSections.Section.class, section);
+        }
+        assertEquals(eager(text, "de"), parsed(sections));
+    }
+
+    @Test
+    public void sectionsInFlowStyleAndWithAnchorsAreParsedAlike() {
+        final String text = "xx:\n"
+            + "  faker:\n"
+            + "    name: {first_name: [Ann, Bob], last_name: [Doe]}\n"
+            + "    empty:\n"
+            + "    nested:\n"
+            + "      deep:\n"
+            + "        - a: &last [Doe]\n"
+            + "        - a: *last\n"
+            + "          b: |\n"
+            + "            literal\n"
+            + "    tail: \"" + pad() + "\"\n";
+        final Map<String, Object> sections = YamlSections.load(text, "xx.yml", Locale.ROOT, false, "xx");
+        assertNull(((YamlSections.Section) sections.get("empty")).get());
+        assertEquals(eager(text, "xx"), parsed(sections));
+    }
+
+    @Test
+    public void aliasesAcrossSectionsAreParsedAtOnce() {
+        final String text = "xx:\n"
+            + "  faker:\n"
+            + "    name: {first_name: &first [Ann]}\n"
+            + "    other: {first_name: *first}\n"
+            + "    tail: \"" + pad() + "\"\n";
+        final Map<String, Object> sections = YamlSections.load(text, "xx.yml", Locale.ROOT, false, "xx");
+        assertFalse(sections.get("name") instanceof YamlSections.Section);
+        assertEquals(eager(text, "xx"), sections);
+    }
+
+    @Test
+    public void smallFilesAndMissingRoots() {
+        final String text = "en:\n  faker:\n    name: {first_name: [Ann]}\n";
+        final Map<String, Object> sections = YamlSections.load(text, "en.yml", Locale.ROOT, false, "xx", "en");
+        assertEquals(Collections.singletonMap("name", Collections.singletonMap("first_name", Arrays.asList("Ann"))),
+            sections);
+        assertNull(YamlSections.load(text, "en.yml", Locale.ROOT, false, "xx"));
+    }
+
+    private static String pad() {
+        final char[] pad = new char[YamlSections.LAZY_THRESHOLD];
+        Arrays.fill(pad, 'x');
+        return new String(pad);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object eager(String text, String root) {
+        final Map<String, Object> yaml = new Yaml().loadAs(text, Map.class);
+        return WeightedList.applyWeights(((Map<String, Object>) yaml.get(root)).get("faker"));
+    }
+
+    private static Map<String, Object> parsed(Map<String, Object> sections) {
+        final Map<String, Object> parsed = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : sections.entrySet()) {
+            parsed.put(entry.getKey(), ((YamlSections.Section) entry.getValue()).get());
+        }
+        return parsed;
+    }
+
+    private static String read(String resource) throws IOException {
+        try (InputStream stream = YamlSectionsTest.class.getResourceAsStream(resource)) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            for (int read; (read = stream.read(buffer)) != -1; ) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
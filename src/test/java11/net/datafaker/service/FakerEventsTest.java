@@ -0,0 +1,69 @@
+package net.datafaker.service;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+public class FakerEventsTest {
+
+    @Test
+    public void eventsAreRecorded() throws IOException {
+        final Path file = Files.createTempFile("datafaker", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("net.datafaker.YamlLoad").withThreshold(Duration.ZERO);
+            recording.enable("net.datafaker.ExpressionCompile").withThreshold(Duration.ZERO);
+            recording.enable("net.datafaker.RegexCompile").withThreshold(Duration.ZERO);
+            recording.start();
+
+            final Faker faker = new Faker(Locale.GERMAN);
+            faker.name().firstName();
+            faker.expression("#{Name.last_name}");
+            faker.regexify("[a-f]{4}[0-9]{2}");
+
+            recording.stop();
+            recording.dump(file);
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            final List<RecordedEvent> loads = events(events, "net.datafaker.YamlLoad");
+            final RecordedEvent load = loads.stream()
+                .filter(event -> "/de.yml".equals(event.getString("file")))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+            assertThat(load.getString("locale"), is("de"));
+            assertThat(load.getLong("bytes"), greaterThan(0L));
+            assertThat(strings(loads, "file"), hasItem("/de.yml#name"));
+
+            assertThat(strings(events(events, "net.datafaker.ExpressionCompile"), "expression"),
+                hasItem("#{Name.last_name}"));
+            assertThat(strings(events(events, "net.datafaker.RegexCompile"), "regex"),
+                hasItem("[a-f]{4}[0-9]{2}"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> strings(List<RecordedEvent> events, String field) {
+        return events.stream().map(event -> event.getString(field)).collect(Collectors.toList());
+    }
+}